@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.continuouspoker.dealer.calculation.hands.Score;
+import org.continuouspoker.dealer.data.BenchmarkFixtures;
+import org.continuouspoker.dealer.data.Player;
+import org.continuouspoker.dealer.data.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandCalculatorBenchmark {
+
+    private static final int NUMBER_OF_DEALS = 1024;
+
+    @Param({ "2", "4", "6", "8", "10" })
+    private int numberOfPlayers;
+
+    private final HandCalculator handCalculator = new HandCalculator();
+    private final List<Table> tables = new ArrayList<>(NUMBER_OF_DEALS);
+    private int deal;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkFixtures.SEED);
+        for (int i = 0; i < NUMBER_OF_DEALS; i++) {
+            tables.add(BenchmarkFixtures.dealTable(random, numberOfPlayers, 5));
+        }
+    }
+
+    @Benchmark
+    public Map<Score, List<Player>> determineWinningHand() {
+        deal = (deal + 1) % NUMBER_OF_DEALS;
+        final Table table = tables.get(deal);
+        return handCalculator.determineWinningHand(table.getPlayers(), table.getCommunityCardSet());
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation.hands;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.continuouspoker.dealer.data.BenchmarkFixtures;
+import org.continuouspoker.dealer.data.CardSet;
+import org.continuouspoker.dealer.data.Player;
+import org.continuouspoker.dealer.data.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandEvaluatorBenchmark {
+
+    @Param({ "1024", "1048576" })
+    private int numberOfHands;
+
+    private long[] holeCards;
+    private long[] boards;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(BenchmarkFixtures.SEED);
+        holeCards = new long[numberOfHands];
+        boards = new long[numberOfHands];
+        for (int i = 0; i < numberOfHands; i++) {
+            final Table table = BenchmarkFixtures.dealTable(random, 1, 5);
+            final Player player = table.getPlayers().get(0);
+            holeCards[i] = CardSet.of(player.getCards());
+            boards[i] = table.getCommunityCardSet();
+        }
+    }
+
+    @Benchmark
+    public int[] evaluateOneByOne() {
+        final int[] result = new int[numberOfHands];
+        for (int i = 0; i < numberOfHands; i++) {
+            result[i] = HandEvaluator.evaluate(holeCards[i] | boards[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int[] evaluateAll() {
+        return HandEvaluator.evaluateAll(holeCards, boards);
+    }
+
+}
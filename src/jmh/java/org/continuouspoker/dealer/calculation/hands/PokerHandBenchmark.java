@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation.hands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.continuouspoker.dealer.data.BenchmarkFixtures;
+import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.Player;
+import org.continuouspoker.dealer.data.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokerHandBenchmark {
+
+    private static final int NUMBER_OF_HANDS = 1024;
+
+    private static final List<PokerHand> HANDS = List.of(new HighCard(), new Pair(), new TwoPair(),
+            new ThreeOfAKind(), new Straight(), new Flush(), new FullHouse(), new FourOfAKind(), new StraightFlush(),
+            new RoyalFlush());
+
+    @Param
+    private HandCategory category;
+
+    private PokerHand hand;
+    private final List<List<Card>> cards = new ArrayList<>(NUMBER_OF_HANDS);
+    private int deal;
+
+    @Setup
+    public void setUp() {
+        hand = HANDS.stream().filter(h -> h.getCategory() == category).findFirst().orElseThrow();
+        final Random random = new Random(BenchmarkFixtures.SEED);
+        for (int i = 0; i < NUMBER_OF_HANDS; i++) {
+            final Table table = BenchmarkFixtures.dealTable(random, 1, 5);
+            final Player player = table.getPlayers().get(0);
+            final List<Card> sevenCards = new ArrayList<>(player.getCards());
+            sevenCards.addAll(table.getCommunityCards());
+            cards.add(sevenCards);
+        }
+    }
+
+    @Benchmark
+    public boolean matches() {
+        deal = (deal + 1) % NUMBER_OF_HANDS;
+        return hand.matches(cards.get(deal));
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.continuouspoker.dealer.StepLogger;
+
+/**
+ * Seeded decks, players and tables shared by the benchmarks, so that every run measures the same deals.
+ */
+public final class BenchmarkFixtures {
+
+    public static final StepLogger NO_LOG = msg -> {
+    };
+
+    public static final long SEED = 42L;
+
+    private static final int SMALL_BLIND = 5;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Deck shuffledDeck(final Random random) {
+        return new Deck(random);
+    }
+
+    public static List<Player> createPlayers(final int count, final int stack) {
+        final List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new Player("Player " + i, Status.ACTIVE, stack, 0, (table, logger) -> 0));
+        }
+        return players;
+    }
+
+    public static Table createTable(final List<Player> players) {
+        final Table table = new Table(0, players, SMALL_BLIND);
+        table.setPot(new Pot(NO_LOG));
+        return table;
+    }
+
+    public static Table dealTable(final Random random, final int numberOfPlayers, final int communityCards) {
+        final Deck deck = shuffledDeck(random);
+        final Table table = createTable(createPlayers(numberOfPlayers, 100));
+        deck.dealCards(table.getPlayers(), 2);
+        deck.dealCards(table, communityCards);
+        return table;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckBenchmark {
+
+    private static final int COMMUNITY_CARDS = 5;
+
+    @Param({ "2", "6", "10" })
+    private int numberOfPlayers;
+
+    private Table table;
+    private List<Player> players;
+
+    @Setup
+    public void setUp() {
+        players = BenchmarkFixtures.createPlayers(numberOfPlayers, 100);
+        table = BenchmarkFixtures.createTable(players);
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        return new Deck();
+    }
+
+    @Benchmark
+    public Table shuffleAndDeal() {
+        players.forEach(Player::clearCards);
+        table.getCommunityCards().clear();
+
+        final Deck deck = new Deck();
+        deck.dealCards(players, 2);
+        deck.burnCard();
+        deck.dealCards(table, COMMUNITY_CARDS);
+        return table;
+    }
+
+    @Benchmark
+    public Table reshuffleAndDeal(final Shuffler shuffler) {
+        players.forEach(Player::clearCards);
+        table.getCommunityCards().clear();
+
+        final Deck deck = shuffler.deck;
+        deck.shuffle();
+        deck.dealCards(players, 2);
+        deck.burnCard();
+        deck.dealCards(table, COMMUNITY_CARDS);
+        return table;
+    }
+
+    @State(Scope.Thread)
+    public static class Shuffler {
+
+        @Param({ "L64X128MixRandom", "SplittableRandom", "SecureRandom" })
+        private String algorithm;
+
+        private Deck deck;
+
+        @Setup
+        public void setUp() {
+            deck = new Deck(RandomGenerator.of(algorithm));
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.continuouspoker.dealer.calculation.HandCalculator;
+import org.continuouspoker.dealer.calculation.ScoreComparator;
+import org.continuouspoker.dealer.calculation.hands.Score;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Every player goes all-in with a different stack, so each collect opens one side pot per player. The players are
+ * created inside the benchmark because collecting and paying changes their stacks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PotBenchmark {
+
+    private static final int STACK_STEP = 100;
+
+    @Param({ "2", "6", "10" })
+    private int numberOfPlayers;
+
+    private Score[] scores;
+
+    @Setup
+    public void setUp() {
+        final Table table = BenchmarkFixtures.dealTable(new Random(BenchmarkFixtures.SEED), numberOfPlayers, 5);
+        final Map<Score, List<Player>> ranking = new HandCalculator().determineWinningHand(table.getPlayers(),
+                table.getCommunityCardSet());
+        scores = new Score[numberOfPlayers];
+        ranking.forEach((score, players) -> players.forEach(p -> scores[table.getPlayers().indexOf(p)] = score));
+    }
+
+    @Benchmark
+    public Pot collect() {
+        final Pot pot = new Pot(BenchmarkFixtures.NO_LOG);
+        pot.collect(goAllIn());
+        return pot;
+    }
+
+    @Benchmark
+    public List<Player> collectAndPay() {
+        final Pot pot = new Pot(BenchmarkFixtures.NO_LOG);
+        final List<Player> players = goAllIn();
+        pot.collect(players);
+
+        final Map<Score, List<Player>> ranking = new TreeMap<>(new ScoreComparator());
+        for (int i = 0; i < numberOfPlayers; i++) {
+            ranking.computeIfAbsent(scores[i], k -> new ArrayList<>()).add(players.get(i));
+        }
+        pot.pay(ranking);
+        return players;
+    }
+
+    private List<Player> goAllIn() {
+        final List<Player> players = BenchmarkFixtures.createPlayers(numberOfPlayers, 0);
+        for (int i = 0; i < numberOfPlayers; i++) {
+            final Player player = players.get(i);
+            player.addToStack((i + 1) * STACK_STEP);
+            player.bet(player.getStack());
+        }
+        return players;
+    }
+
+}
@@ -15,14 +15,33 @@
  */
 package org.continuouspoker.dealer;
 
-import org.continuouspoker.dealer.data.Table;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
-public interface ActionProvider {
+import org.continuouspoker.dealer.data.TableSnapshot;
+
+public interface ActionProvider extends AutoCloseable {
 
     default String getUrl() {
         return "";
     }
 
-    int requestBet(Table table, StepLogger logger);
+    int requestBet(TableSnapshot table, StepLogger logger);
+
+    /**
+     * Requests a bet without blocking the caller. Providers that talk to remote
+     * players override this, the default answers synchronously.
+     */
+    default CompletionStage<Integer> requestBetAsync(final TableSnapshot table, final StepLogger logger) {
+        return CompletableFuture.completedFuture(requestBet(table, logger));
+    }
+
+    /**
+     * Releases the connections of a provider whose team was removed.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
 
 }
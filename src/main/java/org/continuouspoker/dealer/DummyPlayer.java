@@ -16,12 +16,12 @@
 
 package org.continuouspoker.dealer;
 
-import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.data.TableSnapshot;
 
 public class DummyPlayer implements ActionProvider {
 
     @Override
-    public int requestBet(final Table table, final StepLogger logger) {
+    public int requestBet(final TableSnapshot table, final StepLogger logger) {
         return 0;
     }
 
@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer;
+
+import java.text.NumberFormat;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import org.continuouspoker.dealer.calculation.Equity;
+import org.continuouspoker.dealer.calculation.hands.Score;
+import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
+
+/**
+ * Something that happened in a game round. Events only hold the facts, they are
+ * turned into text when someone reads the log.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({ @JsonSubTypes.Type(value = GameEvent.RoundStarted.class, name = "roundStarted"),
+                @JsonSubTypes.Type(value = GameEvent.RoundEnded.class, name = "roundEnded"),
+                @JsonSubTypes.Type(value = GameEvent.BlindPosted.class, name = "blindPosted"),
+                @JsonSubTypes.Type(value = GameEvent.Bet.class, name = "bet"),
+                @JsonSubTypes.Type(value = GameEvent.Raise.class, name = "raise"),
+                @JsonSubTypes.Type(value = GameEvent.Call.class, name = "call"),
+                @JsonSubTypes.Type(value = GameEvent.AllIn.class, name = "allIn"),
+                @JsonSubTypes.Type(value = GameEvent.Check.class, name = "check"),
+                @JsonSubTypes.Type(value = GameEvent.Fold.class, name = "fold"),
+                @JsonSubTypes.Type(value = GameEvent.CardsDealt.class, name = "cardsDealt"),
+                @JsonSubTypes.Type(value = GameEvent.CardsShown.class, name = "cardsShown"),
+                @JsonSubTypes.Type(value = GameEvent.PotAwarded.class, name = "potAwarded"),
+                @JsonSubTypes.Type(value = GameEvent.PotCollected.class, name = "potCollected"),
+                @JsonSubTypes.Type(value = GameEvent.EquityEstimated.class, name = "equityEstimated"),
+                @JsonSubTypes.Type(value = GameEvent.AllInEquity.class, name = "allInEquity"),
+                @JsonSubTypes.Type(value = GameEvent.TournamentWon.class, name = "tournamentWon"),
+                @JsonSubTypes.Type(value = GameEvent.BetRoundStarted.class, name = "betRoundStarted"),
+                @JsonSubTypes.Type(value = GameEvent.BetRoundEnded.class, name = "betRoundEnded"),
+                @JsonSubTypes.Type(value = GameEvent.PlayerBlocked.class, name = "playerBlocked"),
+                @JsonSubTypes.Type(value = GameEvent.BetRequestFailed.class, name = "betRequestFailed")
+})
+public sealed interface GameEvent {
+
+    /**
+     * Epoch nanos of the moment the event happened.
+     */
+    long timestamp();
+
+    String describe();
+
+    static long now() {
+        return toEpochNanos(Instant.now());
+    }
+
+    static long toEpochNanos(final Instant instant) {
+        return TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+    }
+
+    static Instant toInstant(final long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    enum Street {
+        PREFLOP, FLOP, TURN, RIVER;
+
+        public String displayName() {
+            return name().charAt(0) + name().substring(1).toLowerCase(Locale.ROOT);
+        }
+    }
+
+    record RoundStarted(long timestamp, long round) implements GameEvent {
+        @Override
+        public String describe() {
+            return "Starting round " + round + ".";
+        }
+    }
+
+    record RoundEnded(long timestamp, long round) implements GameEvent {
+        @Override
+        public String describe() {
+            return "Ending round " + round + ".";
+        }
+    }
+
+    record BlindPosted(long timestamp, String player, int amount, boolean bigBlind, boolean allIn)
+            implements GameEvent {
+        @Override
+        public String describe() {
+            final String blind = bigBlind ? "big blind" : "small blind";
+            if (allIn) {
+                return String.format("Player %s goes all in for %s with %s.", player, blind, amount);
+            }
+            return String.format("Player %s pays %s of %s.", player, blind, amount);
+        }
+    }
+
+    record Bet(long timestamp, String player, int amount) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s bets %s.", player, amount);
+        }
+    }
+
+    record Raise(long timestamp, String player, int amount) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s raises to %s.", player, amount);
+        }
+    }
+
+    record Call(long timestamp, String player, int amount) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s calls the bet of %s.", player, amount);
+        }
+    }
+
+    record AllIn(long timestamp, String player, int amount) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s goes all in with %s.", player, amount);
+        }
+    }
+
+    record Check(long timestamp, String player) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s checks.", player);
+        }
+    }
+
+    record Fold(long timestamp, String player) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s folds.", player);
+        }
+    }
+
+    /**
+     * Community cards dealt on a street, as a {@link CardSet} mask.
+     */
+    record CardsDealt(long timestamp, Street street, long cards) implements GameEvent {
+        @Override
+        public String describe() {
+            return street.displayName() + ": " + joinCards(cards, ", ");
+        }
+    }
+
+    /**
+     * Hole cards of a player at the showdown, as a {@link CardSet} mask.
+     */
+    record CardsShown(long timestamp, String player, long cards) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s has %s.", player, joinCards(cards, " and "));
+        }
+    }
+
+    record PotAwarded(long timestamp, String pot, int size, List<String> winners, int share, int strength)
+            implements GameEvent {
+        @Override
+        public String describe() {
+            final String hand = new Score(strength).name();
+            if (isSplit()) {
+                return String.format("%s of %s is split between %s (%s for each), for a '%s'", pot, size,
+                        String.join(",", winners), share, hand);
+            }
+            return String.format("%s of %s goes to %s, for a '%s'", pot, size, String.join(",", winners), hand);
+        }
+
+        private boolean isSplit() {
+            return winners.size() > 1;
+        }
+    }
+
+    record PotCollected(long timestamp, String player, int amount) implements GameEvent {
+        @Override
+        public String describe() {
+            return "All pots go to " + player + " with " + amount + " chips in total.";
+        }
+    }
+
+    /**
+     * The equity of each player still in the round, estimated from the given number
+     * of random boards.
+     */
+    record EquityEstimated(long timestamp, Street street, Map<String, Equity> equities, long samples)
+            implements GameEvent {
+        @Override
+        public String describe() {
+            return street.displayName() + " equity: " + describeEquities(equities);
+        }
+    }
+
+    /**
+     * The exact equity of each player once no more bets are possible, from every
+     * board that can still be dealt.
+     */
+    record AllInEquity(long timestamp, Street street, Map<String, Equity> equities, long boards)
+            implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("All in after the %s, equity over all %s boards: %s", street.displayName(), boards,
+                    describeEquities(equities));
+        }
+    }
+
+    record TournamentWon(long timestamp, String player) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s won the tournament!", player);
+        }
+    }
+
+    record BetRoundStarted(long timestamp) implements GameEvent {
+        @Override
+        public String describe() {
+            return "Starting bet round.";
+        }
+    }
+
+    /**
+     * The end of a bet round, with the player left as winner if all others folded.
+     */
+    record BetRoundEnded(long timestamp, String winner) implements GameEvent {
+        @Override
+        public String describe() {
+            return winner == null ? "Ending bet round." : "Ending bet round with winner: " + winner;
+        }
+    }
+
+    record PlayerBlocked(long timestamp, String player) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Player %s is blocked from this tournament and cannot bet.", player);
+        }
+    }
+
+    record BetRequestFailed(long timestamp, String player, int strike) implements GameEvent {
+        @Override
+        public String describe() {
+            return String.format("Request to player %s failed or took too long - Strike %s", player, strike);
+        }
+    }
+
+    private static String describeEquities(final Map<String, Equity> equities) {
+        final NumberFormat percent = NumberFormat.getPercentInstance(Locale.ROOT);
+        percent.setMinimumFractionDigits(1);
+        percent.setMaximumFractionDigits(1);
+        return equities.entrySet()
+                       .stream()
+                       .map(e -> e.getKey() + " " + percent.format(e.getValue().share()))
+                       .collect(Collectors.joining(", "));
+    }
+
+    private static String joinCards(final long cards, final String delimiter) {
+        return CardSet.toCards(cards).stream().map(Card::toString).collect(Collectors.joining(delimiter));
+    }
+}
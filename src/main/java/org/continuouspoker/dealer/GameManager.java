@@ -15,35 +15,60 @@
  */
 package org.continuouspoker.dealer;
 
+import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.scheduler.Scheduled;
+import io.vertx.core.Vertx;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.continuouspoker.dealer.api.GameEventStream;
+import org.continuouspoker.dealer.calculation.EquityCalculator;
 import org.continuouspoker.dealer.game.Game;
+import org.continuouspoker.dealer.game.TournamentState;
+import org.continuouspoker.dealer.metrics.DealerMetrics;
 import org.continuouspoker.dealer.persistence.GameBE;
 import org.continuouspoker.dealer.persistence.GameDAO;
 import org.continuouspoker.dealer.persistence.TeamBE;
+import org.continuouspoker.dealer.persistence.TournamentSnapshots;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 @ApplicationScoped
 @Slf4j
 @RequiredArgsConstructor
+@SuppressWarnings({ "PMD.ExcessiveImports", "PMD.TooManyFields" })
 public class GameManager {
 
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration[] FLUSH_BUCKETS = { Duration.ofMillis(5), Duration.ofMillis(10),
+            Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500) };
+
     @ConfigProperty(name = "tournament.sleep.duration")
     /* package */ Duration tournamentSleepDuration;
 
@@ -53,48 +78,235 @@ public class GameManager {
     @ConfigProperty(name = "step.sleep.duration")
     /* package */ Duration stepSleepDuration;
 
+    // the threads that play the steps of the games, games waiting for a bet or a
+    // pause do not hold one
     @ConfigProperty(name = "game.executor.poolsize")
     /* package */ int executorPoolsize;
 
+    // how many games play a tournament at the same time, the others wait for
+    // their next run
+    @ConfigProperty(name = "game.max-running", defaultValue = "100")
+    /* package */ int maxRunningGames;
+
+    // run the steps of the games on virtual threads (Java 21+)
+    @ConfigProperty(name = "game.executor.virtual-threads", defaultValue = "false")
+    /* package */ boolean virtualThreads;
+
+    // estimate the equity of the players on every street of games played with pacing
+    @ConfigProperty(name = "equity.enabled", defaultValue = "true")
+    /* package */ boolean equityEnabled;
+
+    @ConfigProperty(name = "equity.max-samples", defaultValue = "100000")
+    /* package */ int equityMaxSamples;
+
+    // sampling stops once the standard error of every estimate is below this
+    @ConfigProperty(name = "equity.target-error", defaultValue = "0.005")
+    /* package */ double equityTargetError;
+
+    // the deck shuffling algorithm, e.g. SecureRandom or L64X128MixRandom
+    @ConfigProperty(name = "deck.random", defaultValue = "SecureRandom")
+    /* package */ String deckRandom;
+
     private final GameDAO dao;
+    private final GameEventStream events;
+    private final TournamentSnapshots snapshots;
+    private final DealerMetrics metrics;
+    // sends the bet requests without blocking the games
+    private final Vertx vertx;
+    private final ObjectMapper mapper;
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(executorPoolsize);
-    private final Map<Game, ScheduledFuture<?>> games = new TreeMap<>(Comparator.comparing(Game::getName));
+    private ScheduledThreadPoolExecutor scheduler;
+    private EquityCalculator equityCalculator;
+    private Semaphore runningGames;
+    private final Map<Long, Game> games = new ConcurrentHashMap<>();
+    private final Map<Long, ScheduledFuture<?>> scheduledGames = new ConcurrentHashMap<>();
 
     @PostConstruct
         /* package */ void initialize() {
+        // fail on startup for an unknown algorithm
+        RandomGenerator.of(deckRandom);
+        scheduler = new ScheduledThreadPoolExecutor(executorPoolsize, createThreadFactory());
+        runningGames = new Semaphore(maxRunningGames);
+        if (equityEnabled) {
+            equityCalculator = new EquityCalculator(equityMaxSamples, equityTargetError);
+        }
+        Gauge.builder("dealer.scheduler.active.threads", scheduler, ScheduledThreadPoolExecutor::getActiveCount)
+             .register(metrics.getRegistry());
+        Gauge.builder("dealer.scheduler.queue.depth", this, GameManager::countWaitingGames)
+             .register(metrics.getRegistry());
         final List<GameBE> gameList = dao.loadGames();
-        gameList.forEach(g -> games.put(toGame(g), null));
+        gameList.stream().map(this::toGame).forEach(g -> games.put(g.getGameId(), g));
+        resumeInterruptedTournaments();
+    }
+
+    // games that were interrupted by a restart continue where they left off
+    private void resumeInterruptedTournaments() {
+        final Map<Long, TournamentState> states = snapshots.load();
+        states.forEach((gameId, state) -> {
+            final Game game = games.get(gameId);
+            if (game == null) {
+                snapshots.discard(gameId);
+                return;
+            }
+            log.info("Resuming game {} at round {} of tournament {}", gameId, state.round(), state.tournamentId());
+            game.resume(state);
+            scheduledGames.put(gameId, schedule(game, Duration.ZERO));
+        });
     }
 
+    // the tournaments end after their current round, so the snapshots resume them
+    // at the next one
+    @PreDestroy
+        /* package */ void shutdown() {
+        scheduledGames.values().forEach(g -> g.cancel(false));
+        final CompletableFuture<?>[] stopped = games.values()
+                                                    .stream()
+                                                    .map(game -> game.stop().toCompletableFuture())
+                                                    .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(stopped).get(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            log.debug("A tournament failed while stopping", e);
+        } catch (final TimeoutException e) {
+            log.warn("Tournaments did not stop within {}, their last rounds are played again", SHUTDOWN_TIMEOUT);
+        }
+        scheduler.shutdownNow();
+        store();
+        snapshots.flush();
+        games.values().forEach(game -> game.getTeams().forEach(team -> team.getProvider().close()));
+    }
+
+    // games that are due but wait for a free thread
+    private long countWaitingGames() {
+        return scheduler.getQueue()
+                        .stream()
+                        .filter(task -> ((Delayed) task).getDelay(TimeUnit.NANOSECONDS) <= 0)
+                        .count();
+    }
+
+    private ThreadFactory createThreadFactory() {
+        if (virtualThreads) {
+            final Optional<ThreadFactory> factory = virtualThreadFactory();
+            if (factory.isPresent()) {
+                log.info("Running the games on up to {} virtual threads", executorPoolsize);
+                return factory.get();
+            }
+            log.warn("Virtual threads are not supported by Java {}, running games on platform threads",
+                    Runtime.version().feature());
+        }
+        return Executors.defaultThreadFactory();
+    }
+
+    // looked up reflectively, as the dealer is still compiled for Java 17
+    private static Optional<ThreadFactory> virtualThreadFactory() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            final Object namedBuilder = builderType.getMethod("name", String.class, long.class)
+                                                   .invoke(builder, "game-", 0L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(namedBuilder));
+        } catch (final NoSuchMethodException | ClassNotFoundException | IllegalAccessException
+                       | InvocationTargetException e) {
+            return Optional.empty();
+        }
+    }
+
+    // write-behind: only the teams and scores changed since the last run are stored
     @Scheduled(delayed = "10s", every = "10s")
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
         /* package */ void store() {
-        dao.storeGames(games.keySet());
+        final List<Game> changedGames = new ArrayList<>();
+        final List<Team> changedTeams = new ArrayList<>();
+        for (final Game game : games.values()) {
+            if (game.takeTeamsChange()) {
+                changedGames.add(game);
+            }
+            game.getTeams().stream().filter(Team::takeScoreChange).forEach(changedTeams::add);
+        }
+        if (changedGames.isEmpty() && changedTeams.isEmpty()) {
+            return;
+        }
+
+        final Map<Long, List<Long>> gameTeams = changedGames.stream()
+                                                            .collect(Collectors.toMap(Game::getGameId,
+                                                                    g -> g.getTeams()
+                                                                          .stream()
+                                                                          .map(Team::getTeamId)
+                                                                          .toList()));
+        final Map<Long, Long> teamScores = changedTeams.stream()
+                                                       .collect(Collectors.toMap(Team::getTeamId, Team::getScore,
+                                                               (first, second) -> second));
+        final Timer flushDuration = Timer.builder("dealer.flush")
+                                         .tag("store", "teams")
+                                         .serviceLevelObjectives(FLUSH_BUCKETS)
+                                         .register(metrics.getRegistry());
+        final long start = System.nanoTime();
+        try {
+            dao.storeChanges(gameTeams, teamScores);
+        } catch (final RuntimeException e) {
+            log.error("Could not store changes of {} games and {} teams, trying again later", changedGames.size(),
+                    changedTeams.size(), e);
+            changedGames.forEach(Game::markTeamsChanged);
+            changedTeams.forEach(Team::markScoreChanged);
+        }
+        flushDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
 
     public long createNewGame(final String name) {
         final Game game = toGame(dao.createGame(new Game(0L, name, gameRoundSleepDuration, stepSleepDuration, dao)));
-        games.put(game, null);
+        games.put(game.getGameId(), game);
         return game.getGameId();
     }
 
     private Game toGame(final GameBE source) {
         final Game game = new Game(source.id, source.getName(), gameRoundSleepDuration, stepSleepDuration, dao);
+        game.setListener(events.forGame(game.getGameId())
+                               .andThen(snapshots)
+                               .andThen(metrics.forGame(game.getGameId())));
+        game.setEquityCalculator(equityCalculator);
+        game.setRandom(RandomGenerator.of(deckRandom));
+        game.setExecutor(scheduler);
+        game.setRunningGames(runningGames);
+        game.setScheduled(() -> isRunning(game.getGameId()));
         source.getTeams().forEach(t -> game.addPlayer(toTeam(t)));
+        // the teams are stored already
+        game.takeTeamsChange();
         return game;
     }
 
     public void resume(final long gameId) {
         synchronized (this) {
             getGame(gameId).ifPresent(game -> {
-                if (games.get(game) == null || games.get(game).isCancelled()) {
-                    games.put(game, scheduler.scheduleAtFixedRate(game, 0, tournamentSleepDuration.getSeconds(),
-                            TimeUnit.SECONDS));
+                if (getScheduledGame(game).map(ScheduledFuture::isCancelled).orElse(true)) {
+                    scheduledGames.put(gameId, schedule(game, Duration.ZERO));
                 }
             });
         }
     }
 
+    public void setTurbo(final long gameId, final boolean turbo) {
+        synchronized (this) {
+            getGame(gameId).ifPresent(game -> {
+                game.setTurbo(turbo);
+                // a running game starts right away in turbo and waits for the next
+                // interval otherwise, Game.run skips runs while a tournament is played
+                getScheduledGame(game).filter(g -> !g.isCancelled()).ifPresent(g -> {
+                    g.cancel(false);
+                    scheduledGames.put(gameId, schedule(game, turbo ? Duration.ZERO : tournamentSleepDuration));
+                });
+            });
+        }
+    }
+
+    // turbo games start their next tournament themselves, the timer only restarts
+    // them after a failed one
+    private ScheduledFuture<?> schedule(final Game game, final Duration initialDelay) {
+        return scheduler.scheduleAtFixedRate(game, initialDelay.getSeconds(), tournamentSleepDuration.getSeconds(),
+                TimeUnit.SECONDS);
+    }
+
     public void pause(final long gameId) {
         synchronized (this) {
             getGame(gameId).flatMap(this::getScheduledGame).ifPresent(g -> g.cancel(false));
@@ -102,26 +314,61 @@ public class GameManager {
     }
 
     private Optional<ScheduledFuture<?>> getScheduledGame(final Game game) {
-        return Optional.ofNullable(games.get(game));
+        return Optional.ofNullable(scheduledGames.get(game.getGameId()));
     }
 
     public void delete(final long gameId) {
-        getGame(gameId).ifPresent(game -> {
-            getScheduledGame(game).ifPresent(g -> g.cancel(true));
-            games.remove(game);
-        });
+        synchronized (this) {
+            getGame(gameId).ifPresent(game -> {
+                getScheduledGame(game).ifPresent(g -> g.cancel(false));
+                scheduledGames.remove(gameId);
+                // the tournament plays on as continuations, its last round would store
+                // the snapshot again
+                game.stop().whenComplete((ignored, error) -> snapshots.discard(gameId));
+                games.remove(gameId);
+                events.close(gameId);
+                metrics.removeGame(gameId);
+                game.getTeams().forEach(team -> {
+                    team.getProvider().close();
+                    removeTeamMeters(team.getName());
+                });
+            });
+        }
+    }
+
+    public void removeTeam(final Game game, final Team team) {
+        synchronized (this) {
+            game.removePlayer(team);
+            team.getProvider().close();
+            removeTeamMeters(team.getName());
+        }
+    }
+
+    // teams are tagged by name, so the meters stay while a team of the same name
+    // plays in another game
+    private void removeTeamMeters(final String teamName) {
+        final boolean playing = games.values()
+                                     .stream()
+                                     .flatMap(g -> g.getTeams().stream())
+                                     .anyMatch(team -> teamName.equals(team.getName()));
+        if (!playing) {
+            metrics.removeTeam(teamName);
+        }
     }
 
     public boolean isRunning(final long gameId) {
         return getGame(gameId).flatMap(this::getScheduledGame).map(g -> !g.isCancelled()).orElse(false);
     }
 
+    /**
+     * All games, sorted by name.
+     */
     public Collection<Game> getGames() {
-        return Collections.unmodifiableSet(games.keySet());
+        return games.values().stream().sorted(Comparator.comparing(Game::getName)).toList();
     }
 
     public Optional<Game> getGame(final long gameId) {
-        return games.keySet().parallelStream().filter(g -> g.getGameId() == gameId).findAny();
+        return Optional.ofNullable(games.get(gameId));
     }
 
     public Team createNewPlayer(final String teamName, final String playerUrl) {
@@ -130,8 +377,10 @@ public class GameManager {
     }
 
     private Team toTeam(final TeamBE source) {
-        final Team team = new Team(source.id, source.getName(), new RemotePlayer(source.getProviderUrl()));
+        final Team team = new Team(source.id, source.getName(),
+                new RemotePlayer(source.getProviderUrl(), vertx, mapper, metrics.getRegistry()));
         team.addToScore(source.getScore());
+        team.takeScoreChange();
         return team;
     }
 }
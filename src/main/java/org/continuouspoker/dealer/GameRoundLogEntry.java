@@ -16,7 +16,5 @@
 
 package org.continuouspoker.dealer;
 
-import java.time.ZonedDateTime;
-
-public record GameRoundLogEntry(long roundNumber, ZonedDateTime timestamp, String message) {
+public record GameRoundLogEntry(long roundNumber, GameEvent event) {
 }
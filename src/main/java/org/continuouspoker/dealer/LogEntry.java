@@ -16,20 +16,34 @@
 
 package org.continuouspoker.dealer;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.With;
 
 @Data
+@AllArgsConstructor
 public class LogEntry {
-    private final ZonedDateTime timestamp;
+    private final GameEvent event;
     private final long gameId;
     private final long tournamentId;
     private final long roundId;
-    private final String message;
+    // position in the log of the game, assigned when the entry is stored
+    @With
+    private final long sequence;
+
+    public LogEntry(final GameEvent event, final long gameId, final long tournamentId, final long roundId) {
+        this(event, gameId, tournamentId, roundId, 0);
+    }
+
+    public ZonedDateTime getTimestamp() {
+        return ZonedDateTime.ofInstant(GameEvent.toInstant(event.timestamp()), ZoneId.systemDefault());
+    }
 
     public String getMessage() {
-        return "[" + timestamp.format(DateTimeFormatter.ISO_TIME) + "] " + message;
+        return "[" + getTimestamp().format(DateTimeFormatter.ISO_TIME) + "] " + event.describe();
     }
 }
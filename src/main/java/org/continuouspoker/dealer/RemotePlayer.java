@@ -15,23 +15,52 @@
  */
 package org.continuouspoker.dealer;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ConnectTimeoutException;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.continuouspoker.dealer.data.Table;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.continuouspoker.dealer.data.PlayerBet;
+import org.continuouspoker.dealer.data.TableSnapshot;
+import org.continuouspoker.dealer.metrics.DealerMetrics;
 
 @Slf4j
+@SuppressWarnings("PMD.ExcessiveImports")
 public class RemotePlayer implements ActionProvider {
 
     private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(1);
     private static final Duration READ_TIMEOUT = Duration.ofSeconds(1);
     private static final int MAX_STRIKES = 3;
+    private static final int FIRST_ERROR_STATUS = 400;
+    private static final Duration[] LATENCY_BUCKETS = { Duration.ofMillis(5), Duration.ofMillis(10),
+            Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500) };
+    private static final String JSON = "application/json";
+
     @JsonProperty
     private final String url;
     @JsonProperty
@@ -39,8 +68,24 @@ public class RemotePlayer implements ActionProvider {
 
     private long blockedTable = -1;
 
-    public RemotePlayer(final String playerUrl) {
+    // built on the first bet and kept, so consecutive bets reuse the pooled
+    // keep-alive connection
+    private transient HttpClient client;
+    private final transient Object clientLock = new Object();
+    private transient boolean closed;
+
+    // the bets are sent from its event loops, so waiting bets do not hold a thread
+    private final transient Vertx vertx;
+    // the mapper configured by Quarkus, which ignores unknown properties of the reply
+    private final transient ObjectMapper mapper;
+    private final transient MeterRegistry registry;
+
+    public RemotePlayer(final String playerUrl, final Vertx vertx, final ObjectMapper mapper,
+            final MeterRegistry registry) {
         this.url = toAbsolute(playerUrl);
+        this.vertx = vertx;
+        this.mapper = mapper;
+        this.registry = registry;
         // test player URL format
         URI.create(this.url);
     }
@@ -57,40 +102,145 @@ public class RemotePlayer implements ActionProvider {
         return url;
     }
 
+    /**
+     * Waits for the bet, must not be called from an event loop.
+     */
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    public int requestBet(final Table table, final StepLogger logger) {
+    public int requestBet(final TableSnapshot table, final StepLogger logger) {
+        return requestBetAsync(table, logger).toCompletableFuture().join();
+    }
+
+    @Override
+    public CompletionStage<Integer> requestBetAsync(final TableSnapshot table, final StepLogger logger) {
         if (table.getTournamentId() == blockedTable) {
             log.info("Player is blocked from this table, will instantly return a bet of 0.");
-            logger.log("Player %s is blocked from this tournament and cannot bet.", getPlayerName(table));
-            return 0;
+            logger.log(new GameEvent.PlayerBlocked(GameEvent.now(), getPlayerName(table)));
+            return CompletableFuture.completedFuture(0);
+        }
+        if (isClosed()) {
+            log.info("Player {} was removed, will instantly return a bet of 0.", url);
+            return CompletableFuture.completedFuture(0);
         }
 
-        try (var client = createClient()) {
-            final int response = client.getExtensionsById(table).bet();
+        final long start = System.nanoTime();
+        return send(table).handle((bet, error) -> {
+            Timer.builder("dealer.bet.request")
+                 .tag(DealerMetrics.TEAM_TAG, getPlayerName(table))
+                 .serviceLevelObjectives(LATENCY_BUCKETS)
+                 .register(registry)
+                 .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (error != null) {
+                return handleFailure(table, logger, error);
+            }
             strike = 0;
-            return response;
-        } catch (final Exception e) {
-            log.error("Error while requesting bet from player {}", url, e);
-            logger.log("Request to player %s failed or took too long - Strike %s", getPlayerName(table), strike + 1);
-            addStrike(table);
-            return 0;
+            return bet;
+        });
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private CompletionStage<Integer> send(final TableSnapshot table) {
+        try {
+            final Buffer body = Buffer.buffer(mapper.writeValueAsBytes(table));
+            return getClient().request(createRequest())
+                              .compose(request -> request.send(body))
+                              .compose(this::readBet)
+                              .toCompletionStage();
+        } catch (final JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private RequestOptions createRequest() {
+        return new RequestOptions().setMethod(HttpMethod.POST)
+                                   .setAbsoluteURI(url.endsWith("/") ? url : url + "/")
+                                   .setTimeout(READ_TIMEOUT.toMillis())
+                                   .putHeader(HttpHeaders.CONTENT_TYPE, JSON)
+                                   .putHeader(HttpHeaders.ACCEPT, JSON);
+    }
+
+    private Future<Integer> readBet(final HttpClientResponse response) {
+        return response.body().compose(body -> {
+            if (response.statusCode() >= FIRST_ERROR_STATUS) {
+                return Future.failedFuture(new IllegalStateException("Player answered with status "
+                        + response.statusCode()));
+            }
+            try {
+                return Future.succeededFuture(mapper.readValue(body.getBytes(), PlayerBet.class).bet());
+            } catch (final IOException e) {
+                return Future.failedFuture(e);
+            }
+        });
+    }
+
+    private int handleFailure(final TableSnapshot table, final StepLogger logger, final Throwable error) {
+        log.error("Error while requesting bet from player {}", url, error);
+        if (isTimeout(error)) {
+            countFor("dealer.bet.request.timeouts", table).increment();
         }
+        logger.log(new GameEvent.BetRequestFailed(GameEvent.now(), getPlayerName(table), strike + 1));
+        discardClient();
+        addStrike(table);
+        return 0;
     }
 
-    private static String getPlayerName(final Table table) {
+    private static boolean isTimeout(final Throwable error) {
+        return ExceptionUtils.getThrowableList(error)
+                             .stream()
+                             .anyMatch(e -> e instanceof TimeoutException || e instanceof InterruptedIOException
+                                     || e instanceof ConnectTimeoutException);
+    }
+
+    private static String getPlayerName(final TableSnapshot table) {
         return table.getPlayers().get(table.getActivePlayer()).getName();
     }
 
-    private RemotePlayerClient createClient() {
-        return RestClientBuilder.newBuilder()
-                                .baseUri(URI.create(this.url))
-                                .connectTimeout(CONNECT_TIMEOUT.getSeconds(), TimeUnit.SECONDS)
-                                .readTimeout(READ_TIMEOUT.getSeconds(), TimeUnit.SECONDS)
-                                .build(RemotePlayerClient.class);
+    private Counter countFor(final String name, final TableSnapshot table) {
+        return Counter.builder(name).tag(DealerMetrics.TEAM_TAG, getPlayerName(table)).register(registry);
+    }
+
+    private boolean isClosed() {
+        synchronized (clientLock) {
+            return closed;
+        }
+    }
+
+    private HttpClient getClient() {
+        synchronized (clientLock) {
+            if (closed) {
+                throw new IllegalStateException("Player " + url + " was removed");
+            }
+            if (client == null) {
+                client = createClient();
+            }
+            return client;
+        }
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    private void discardClient() {
+        synchronized (clientLock) {
+            if (client != null) {
+                client.close().onFailure(e -> log.warn("Could not close client for player {}", url, e));
+                client = null;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (clientLock) {
+            closed = true;
+            discardClient();
+        }
+    }
+
+    private HttpClient createClient() {
+        return vertx.createHttpClient(new HttpClientOptions().setConnectTimeout((int) CONNECT_TIMEOUT.toMillis())
+                                                             .setKeepAlive(true));
     }
 
-    private void addStrike(final Table table) {
+    private void addStrike(final TableSnapshot table) {
+        countFor("dealer.strikes", table).increment();
         strike++;
         if (strike == MAX_STRIKES) {
             blockedTable = table.getTournamentId();
@@ -16,9 +16,14 @@
 
 package org.continuouspoker.dealer;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 
 @Data
 public class Team {
@@ -31,8 +36,26 @@ public class Team {
     @Setter(AccessLevel.NONE)
     private long score;
 
+    // set whenever the score changes, until the change got stored
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicBoolean scoreChanged = new AtomicBoolean();
+
     public void addToScore(final long points) {
         score += points;
+        scoreChanged.set(true);
+    }
+
+    /**
+     * Returns whether the score changed since the last call.
+     */
+    public boolean takeScoreChange() {
+        return scoreChanged.getAndSet(false);
+    }
+
+    public void markScoreChanged() {
+        scoreChanged.set(true);
     }
 
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.api;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.continuouspoker.dealer.LogEntry;
+import org.continuouspoker.dealer.data.TableSnapshot;
+import org.continuouspoker.dealer.game.GameListener;
+
+/**
+ * Pushes the log, table and score changes of a game to everyone watching it as
+ * server-sent events.
+ */
+@Slf4j
+@ApplicationScoped
+public class GameEventStream {
+
+    public static final String LOG_EVENT = "log";
+    public static final String TABLE_EVENT = "table";
+    public static final String SCORE_EVENT = "score";
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // the latest table of every game that waits for the sender, older ones are
+    // dropped
+    private final Map<Long, Object> pendingTables = new ConcurrentHashMap<>();
+    private final ObjectMapper mapper;
+    // serializes and sends the events in order, so many or slow viewers do not
+    // hold up the games
+    private final Executor sender;
+
+    @Inject
+    public GameEventStream(final ObjectMapper mapper) {
+        this(mapper, Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "game-events");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /* package */ GameEventStream(final ObjectMapper mapper, final Executor sender) {
+        this.mapper = mapper;
+        this.sender = sender;
+    }
+
+    @PreDestroy
+    /* package */ void shutdown() {
+        if (sender instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    public void subscribe(final long gameId, final SseEventSink sink, final Sse sse) {
+        subscribers.computeIfAbsent(gameId, id -> new CopyOnWriteArraySet<>()).add(new Subscriber(sink, sse));
+    }
+
+    public GameListener forGame(final long gameId) {
+        return new GameListener() {
+            @Override
+            public void logged(final LogEntry entry) {
+                publish(gameId, LOG_EVENT, () -> entry);
+            }
+
+            @Override
+            public void tableChanged(final long tournamentId, final long roundId,
+                    final Supplier<TableSnapshot> table) {
+                publish(gameId, TABLE_EVENT, () -> new TableEvent(tournamentId, roundId, table.get()));
+            }
+
+            @Override
+            public void scoreChanged(final Map<String, Long> score) {
+                publish(gameId, SCORE_EVENT, () -> score);
+            }
+        };
+    }
+
+    public void close(final long gameId) {
+        final Set<Subscriber> watching = subscribers.remove(gameId);
+        if (watching != null) {
+            watching.forEach(s -> s.sink.close());
+        }
+    }
+
+    /* package */ int getSubscriberCount(final long gameId) {
+        return subscribers.getOrDefault(gameId, Set.of()).size();
+    }
+
+    // the payload is taken on the game thread, as the table changes afterwards
+    private void publish(final long gameId, final String name, final Supplier<Object> data) {
+        final Set<Subscriber> watching = subscribers.get(gameId);
+        if (watching == null || watching.isEmpty()) {
+            return;
+        }
+        final Object payload = data.get();
+        if (TABLE_EVENT.equals(name)) {
+            if (pendingTables.put(gameId, payload) == null) {
+                sender.execute(() -> send(gameId, name, pendingTables.remove(gameId), watching));
+            }
+            return;
+        }
+        sender.execute(() -> send(gameId, name, payload, watching));
+    }
+
+    // serialized once for all subscribers
+    private void send(final long gameId, final String name, final Object payload, final Set<Subscriber> watching) {
+        final String json;
+        try {
+            json = mapper.writeValueAsString(payload);
+        } catch (final JsonProcessingException e) {
+            log.warn("Could not serialize {} event of game {}", name, gameId, e);
+            return;
+        }
+        for (final Subscriber subscriber : watching) {
+            if (subscriber.sink.isClosed()) {
+                watching.remove(subscriber);
+            } else if (TABLE_EVENT.equals(name)) {
+                subscriber.waitingTable.set(json);
+                writeTable(gameId, subscriber, watching);
+            } else {
+                write(gameId, subscriber, name, json, watching);
+            }
+        }
+    }
+
+    // a subscriber gets the next table once the previous one is written, the
+    // tables in between are dropped
+    private void writeTable(final long gameId, final Subscriber subscriber, final Set<Subscriber> watching) {
+        if (!subscriber.writingTable.compareAndSet(false, true)) {
+            return;
+        }
+        final String json = subscriber.waitingTable.getAndSet(null);
+        if (json == null) {
+            subscriber.writingTable.set(false);
+            if (subscriber.waitingTable.get() != null) {
+                writeTable(gameId, subscriber, watching);
+            }
+            return;
+        }
+        write(gameId, subscriber, TABLE_EVENT, json, watching).thenRun(() -> {
+            subscriber.writingTable.set(false);
+            writeTable(gameId, subscriber, watching);
+        });
+    }
+
+    private CompletionStage<?> write(final long gameId, final Subscriber subscriber, final String name,
+            final String json, final Set<Subscriber> watching) {
+        final OutboundSseEvent event = subscriber.sse.newEventBuilder()
+                                                     .name(name)
+                                                     .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                                                     .data(String.class, json)
+                                                     .build();
+        return subscriber.sink.send(event).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.debug("Dropping subscriber of game {}: {}", gameId, e.getMessage());
+                watching.remove(subscriber);
+            }
+        });
+    }
+
+    public record TableEvent(long tournamentId, long roundId, TableSnapshot table) {
+    }
+
+    @RequiredArgsConstructor
+    private static final class Subscriber {
+        private final SseEventSink sink;
+        private final Sse sse;
+        // the latest table not written yet, while the previous one is written
+        private final AtomicReference<String> waitingTable = new AtomicReference<>();
+        private final AtomicBoolean writingTable = new AtomicBoolean();
+    }
+}
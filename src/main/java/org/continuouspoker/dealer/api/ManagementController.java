@@ -29,13 +29,19 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 import lombok.RequiredArgsConstructor;
+import org.continuouspoker.dealer.GameEvent;
 import org.continuouspoker.dealer.LogEntry;
-import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.calculation.Equity;
+import org.continuouspoker.dealer.data.TableSnapshot;
 import org.continuouspoker.dealer.exceptionhandling.exceptions.ObjectNotFoundException;
 import org.continuouspoker.dealer.game.Game;
+import org.continuouspoker.dealer.game.Throughput;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 
 @Path("/games")
@@ -116,6 +122,33 @@ public class ManagementController {
         service.toggleRun(gameId);
     }
 
+    @PUT
+    @Path("/manage/{gameId}/turbo")
+    @Operation(hidden = true)
+    public void setTurbo(
+        @PathParam(PARAM_GAME_ID) final long gameId,
+        @QueryParam("enabled") final boolean enabled) throws ObjectNotFoundException {
+        service.setTurbo(gameId, enabled);
+    }
+
+    @GET
+    @Path("/{gameId}/throughput")
+    @Operation(hidden = true)
+    public Throughput getThroughput(@PathParam(PARAM_GAME_ID) final long gameId) throws ObjectNotFoundException {
+        return service.getThroughput(gameId);
+    }
+
+    @GET
+    @Path("/{gameId}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Operation(hidden = true)
+    public void streamEvents(
+        @PathParam(PARAM_GAME_ID) final long gameId,
+        @Context final SseEventSink sink,
+        @Context final Sse sse) throws ObjectNotFoundException {
+        service.subscribe(gameId, sink, sse);
+    }
+
     @GET
     @Path("/{gameId}/log/{timestamp}")
     @Operation(hidden = true)
@@ -134,14 +167,18 @@ public class ManagementController {
         @QueryParam("to") final String limitTo,
         @QueryParam("tableId") final Long tableId,
         @QueryParam("limit") final Integer limit,
-        @QueryParam("order") final String order) throws ObjectNotFoundException {
+        @QueryParam("order") final String order,
+        @QueryParam("after") final Long after) throws ObjectNotFoundException {
+        if (after != null) {
+            return service.getLogAfter(gameId, after, limit);
+        }
         return service.filterLog(gameId, limitFrom, limitTo, tableId, limit, order);
     }
 
     @GET
     @Path("/{gameId}/tournament/{tournamentId}")
     @Operation(hidden = true)
-    public Table getStateOfTournament(
+    public TableSnapshot getStateOfTournament(
         @PathParam(PARAM_GAME_ID) final long gameId,
         @PathParam("tournamentId") final long tournamentId) throws ObjectNotFoundException {
         return service.getStateOfTournament(gameId, tournamentId);
@@ -150,13 +187,23 @@ public class ManagementController {
     @GET
     @Path("/{gameId}/tournament/{tournamentId}/round/{roundId}")
     @Operation(hidden = true)
-    public Table getStateOfRound(
+    public TableSnapshot getStateOfRound(
         @PathParam(PARAM_GAME_ID) final long gameId,
         @PathParam("tournamentId") final long tournamentId,
         @PathParam("roundId") final long roundId) throws ObjectNotFoundException {
         return service.getStateOfRound(gameId, tournamentId, roundId);
     }
 
+    @GET
+    @Path("/{gameId}/tournament/{tournamentId}/round/{roundId}/equity")
+    @Operation(hidden = true)
+    public Map<GameEvent.Street, Map<String, Equity>> getEquitiesOfRound(
+        @PathParam(PARAM_GAME_ID) final long gameId,
+        @PathParam("tournamentId") final long tournamentId,
+        @PathParam("roundId") final long roundId) throws ObjectNotFoundException {
+        return service.getEquitiesOfRound(gameId, tournamentId, roundId);
+    }
+
     @GET
     @Path("/{gameId}/history")
     @Operation(hidden = true)
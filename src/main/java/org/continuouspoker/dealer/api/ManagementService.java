@@ -19,29 +19,30 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.TreeMap;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 import lombok.RequiredArgsConstructor;
+import org.continuouspoker.dealer.GameEvent;
 import org.continuouspoker.dealer.GameManager;
 import org.continuouspoker.dealer.LogEntry;
 import org.continuouspoker.dealer.Team;
-import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.calculation.Equity;
+import org.continuouspoker.dealer.data.TableSnapshot;
 import org.continuouspoker.dealer.exceptionhandling.exceptions.NoTableStateFoundException;
 import org.continuouspoker.dealer.exceptionhandling.exceptions.ObjectNotFoundException;
 import org.continuouspoker.dealer.game.Game;
+import org.continuouspoker.dealer.game.Throughput;
 import org.continuouspoker.dealer.game.Tournament;
 import org.continuouspoker.dealer.persistence.GameDAO;
-import org.continuouspoker.dealer.persistence.ScoreRecordBE;
-import org.continuouspoker.dealer.persistence.TeamScoreRecordBE;
+import org.continuouspoker.dealer.persistence.TeamScoreRow;
 
 @ApplicationScoped
 @RequiredArgsConstructor
@@ -50,6 +51,7 @@ public class ManagementService {
     private static final int MAX_NUMBER_OF_PLAYERS = 10;
     private final GameManager gameState;
     private final GameDAO gameDAO;
+    private final GameEventStream events;
 
     public void registerPlayer(final long gameId, final String playerUrl, final String teamName)
             throws ObjectNotFoundException {
@@ -72,7 +74,7 @@ public class ManagementService {
                              .stream()
                              .filter(team -> teamName.equals(team.getName()))
                              .findFirst()
-                             .ifPresent(g::removePlayer));
+                             .ifPresent(team -> gameState.removeTeam(g, team)));
     }
 
     public Collection<String> getPlayers(final long gameId) {
@@ -93,12 +95,7 @@ public class ManagementService {
     }
 
     public Map<String, Long> getScore(final long gameId) {
-        final Map<String, Long> map = new HashMap<>();
-
-        gameState.getGame(gameId)
-                 .ifPresent(game -> game.getTeams().forEach(team -> map.put(team.getName(), team.getScore())));
-
-        return map;
+        return gameState.getGame(gameId).map(Game::getScore).orElseGet(Map::of);
     }
 
     public Collection<Game> listGames() {
@@ -117,39 +114,58 @@ public class ManagementService {
         }
     }
 
+    public void setTurbo(final long gameId, final boolean turbo) throws ObjectNotFoundException {
+        gameState.getGame(gameId).orElseThrow(ObjectNotFoundException::new);
+        gameState.setTurbo(gameId, turbo);
+    }
+
+    public Throughput getThroughput(final long gameId) throws ObjectNotFoundException {
+        return gameState.getGame(gameId).map(Game::getThroughput).orElseThrow(ObjectNotFoundException::new);
+    }
+
+    public void subscribe(final long gameId, final SseEventSink sink, final Sse sse) throws ObjectNotFoundException {
+        gameState.getGame(gameId).orElseThrow(ObjectNotFoundException::new);
+        events.subscribe(gameId, sink, sse);
+    }
+
     public List<LogEntry> getLogSince(final long gameId, final String timestamp) throws ObjectNotFoundException {
+        final long since = toEpochNanos(timestamp);
         return gameState.getGame(gameId)
-                        .map(game -> game.getFullHistory()
-                                         .filter(entry -> entry.getTimestamp().isAfter(ZonedDateTime.parse(timestamp)))
-                                         .toList())
+                        .map(game -> game.getGameLog().getEntriesBetween(since, Long.MAX_VALUE))
+                        .orElseThrow(ObjectNotFoundException::new);
+    }
+
+    public List<LogEntry> getLogAfter(final long gameId, final long sequence, final Integer limit)
+            throws ObjectNotFoundException {
+        final int maxEntries = limit != null && limit > 0 ? limit : Integer.MAX_VALUE;
+        return gameState.getGame(gameId)
+                        .map(game -> game.getGameLog().getEntriesAfter(sequence, maxEntries))
                         .orElseThrow(ObjectNotFoundException::new);
     }
 
     public List<LogEntry> filterLog(final long gameId, final String limitFrom, final String limitTo, final Long tableId,
             final Integer limit, final String order) throws ObjectNotFoundException {
-
+        final long from = limitFrom == null ? Long.MIN_VALUE : toEpochNanos(limitFrom);
+        final long until = limitTo == null ? Long.MAX_VALUE : toEpochNanos(limitTo);
         return gameState.getGame(gameId).map(game -> {
-            final Predicate<LogEntry> isAfter = entry -> limitFrom == null || entry.getTimestamp()
-                                                                                   .isAfter(ZonedDateTime.parse(
-                                                                                           limitFrom));
-            final Predicate<LogEntry> isBefore = entry -> limitTo == null || entry.getTimestamp()
-                                                                                  .isBefore(
-                                                                                          ZonedDateTime.parse(limitTo));
-            final Predicate<LogEntry> isTable = entry -> tableId == null || entry.getTournamentId() == tableId;
-
-            final List<LogEntry> logs = new ArrayList<>(
-                    game.getFullHistory().filter(isAfter.and(isBefore).and(isTable)).toList());
+            final List<LogEntry> logs = tableId == null
+                    ? game.getGameLog().getEntriesBetween(from, until)
+                    : game.getGameLog().getEntriesOfTournament(tableId, from, until);
+            final int size = limit != null && limit > 0 ? Math.min(limit, logs.size()) : logs.size();
             if ("desc".equals(order)) {
-                Collections.reverse(logs);
+                final List<LogEntry> latest = new ArrayList<>(logs.subList(logs.size() - size, logs.size()));
+                Collections.reverse(latest);
+                return latest;
             }
-            if (limit != null && limit > 0) {
-                return logs.stream().limit(limit).toList();
-            }
-            return logs;
+            return logs.subList(0, size);
         }).orElseThrow(ObjectNotFoundException::new);
     }
 
-    public Table getStateOfTournament(final long gameId, final long tournamentId) throws ObjectNotFoundException {
+    private static long toEpochNanos(final String timestamp) {
+        return GameEvent.toEpochNanos(ZonedDateTime.parse(timestamp).toInstant());
+    }
+
+    public TableSnapshot getStateOfTournament(final long gameId, final long tournamentId) throws ObjectNotFoundException {
         return gameState.getGame(gameId)
                         .map(game -> game.getTournaments()
                                          .stream()
@@ -162,7 +178,7 @@ public class ManagementService {
                         .orElseThrow(() -> new ObjectNotFoundException("Game or tournament not found!"));
     }
 
-    public Table getStateOfRound(final long gameId, final long tournamentId, final long roundId)
+    public TableSnapshot getStateOfRound(final long gameId, final long tournamentId, final long roundId)
             throws ObjectNotFoundException {
         return gameState.getGame(gameId)
                         .map(game -> game.getTournaments()
@@ -176,6 +192,20 @@ public class ManagementService {
                         .orElseThrow(() -> new ObjectNotFoundException("Game or tournament not found!"));
     }
 
+    public Map<GameEvent.Street, Map<String, Equity>> getEquitiesOfRound(final long gameId, final long tournamentId,
+            final long roundId) throws ObjectNotFoundException {
+        return gameState.getGame(gameId)
+                        .map(game -> game.getTournaments()
+                                         .stream()
+                                         .filter(t -> t.getTournamentId() == tournamentId)
+                                         .map(t -> t.getEquitiesOfGameRound(roundId))
+                                         .filter(Optional::isPresent)
+                                         .map(Optional::get)
+                                         .findFirst()
+                                         .orElseThrow(NoTableStateFoundException::new))
+                        .orElseThrow(() -> new ObjectNotFoundException("Game or tournament not found!"));
+    }
+
     public Map<Long, Map<Long, List<String>>> getGameHistory(final long gameId) throws ObjectNotFoundException {
         final Stream<LogEntry> gameLogs = gameState.getGame(gameId)
                                                    .map(Game::getFullHistory)
@@ -188,20 +218,11 @@ public class ManagementService {
     }
 
     public Map<String, List<ScoreHistoryEntry>> getScoreHistory(final long gameId) {
-        final Map<String, List<ScoreHistoryEntry>> result = new TreeMap<>();
-        for (final ScoreRecordBE rec : gameDAO.loadScores(gameId)) {
-            final Set<TeamScoreRecordBE> teamScores = rec.getTeamScores();
-            for (final TeamScoreRecordBE score : teamScores) {
-                final List<ScoreHistoryEntry> teamList = getTeamList(score, result);
-                teamList.add(new ScoreHistoryEntry(rec.getCreationTimestamp(), score.getScore()));
-            }
-        }
-        return result;
-    }
-
-    private List<ScoreHistoryEntry> getTeamList(final TeamScoreRecordBE score,
-            final Map<String, List<ScoreHistoryEntry>> teamLists) {
-        return teamLists.computeIfAbsent(score.getTeam().getName(), teamName -> new ArrayList<>());
+        return gameDAO.loadScoreHistory(gameId)
+                      .stream()
+                      .collect(Collectors.groupingBy(TeamScoreRow::teamName, TreeMap::new,
+                              Collectors.mapping(row -> new ScoreHistoryEntry(row.creationTimestamp(), row.score()),
+                                      Collectors.toList())));
     }
 
     public String getLatestTournamentAndRound(final long gameId) throws ObjectNotFoundException {
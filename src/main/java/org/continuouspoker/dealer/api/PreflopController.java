@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.api;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.continuouspoker.dealer.calculation.Equity;
+import org.continuouspoker.dealer.calculation.PreflopEquityTable;
+import org.continuouspoker.dealer.exceptionhandling.exceptions.ObjectNotFoundException;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+
+@Path("/preflop")
+@Produces(MediaType.APPLICATION_JSON)
+public class PreflopController {
+
+    /**
+     * The preflop equity of a starting hand like {@code AKs}, either against another
+     * starting hand or against a number of random hands.
+     */
+    @GET
+    @Path("/{hand}")
+    @Operation(hidden = true)
+    public Equity getEquity(
+        @PathParam("hand") final String hand,
+        @QueryParam("against") final String against,
+        @QueryParam("opponents") final Integer opponents) throws ObjectNotFoundException {
+        final PreflopEquityTable table = PreflopEquityTable.getDefault()
+                                                           .orElseThrow(() -> new ObjectNotFoundException(
+                                                                   "No preflop equity table available!"));
+        if (against != null) {
+            return table.headsUp(PreflopEquityTable.indexOf(hand), PreflopEquityTable.indexOf(against));
+        }
+        return table.againstRandom(PreflopEquityTable.indexOf(hand), opponents == null ? 1 : opponents);
+    }
+}
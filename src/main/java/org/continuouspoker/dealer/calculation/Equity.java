@@ -0,0 +1,26 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation;
+
+/**
+ * The chances of one player to win the pot from the current state of a round.
+ *
+ * @param win   probability to win the whole pot
+ * @param tie   probability to split the pot
+ * @param share the expected share of the pot, ties split by the winners
+ */
+public record Equity(double win, double tie, double share) {
+}
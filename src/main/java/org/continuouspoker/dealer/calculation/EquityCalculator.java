@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.continuouspoker.dealer.calculation.hands.HandEvaluator;
+import org.continuouspoker.dealer.data.CardSet;
+
+/**
+ * Estimates the equity of every player by dealing the rest of the board at
+ * random many times. The samples are split into batches that run on all cores,
+ * and sampling stops as soon as the standard error of every estimate is below
+ * the target, or the sample limit is reached. Late streets with only a few
+ * possible boards are enumerated instead.
+ */
+public class EquityCalculator {
+
+    private static final int BOARD_SIZE = 5;
+    private static final int BATCH_SIZE = 4_096;
+
+    private final int maxSamples;
+    private final double targetError;
+    private final int parallelism;
+    // split for every calculation, so calculations draw independent boards
+    private final SplittableRandom random;
+    private final Object randomLock = new Object();
+
+    public EquityCalculator(final int maxSamples, final double targetError) {
+        this(maxSamples, targetError, Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    /* package */ EquityCalculator(final int maxSamples, final double targetError, final int parallelism,
+            final long seed) {
+        this.maxSamples = maxSamples;
+        this.targetError = targetError;
+        this.parallelism = Math.max(1, parallelism);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Estimates the equity, or enumerates the boards if there are only a few.
+     *
+     * @param holeCards the {@link CardSet} masks of the players still in the round
+     * @param board     the community cards dealt so far
+     * @return the equity of each player, in the order of the given hole cards
+     */
+    public Result calculate(final long[] holeCards, final long board) {
+        final int[] deck = remainingDeck(holeCards, board);
+        final int missing = BOARD_SIZE - CardSet.size(board);
+        if (countBoards(deck.length, missing) <= maxSamples) {
+            return enumerate(holeCards, board, deck, missing);
+        }
+
+        final SplittableRandom calculationRandom;
+        synchronized (randomLock) {
+            calculationRandom = random.split();
+        }
+        final Tally total = new Tally(holeCards.length);
+        final SplittableRandom[] randoms = new SplittableRandom[parallelism];
+        while (total.samples < maxSamples && !total.isPrecise(targetError)) {
+            // the last pass only draws the samples left
+            final long remaining = maxSamples - total.samples;
+            final int batches = (int) Math.min(parallelism, (remaining + BATCH_SIZE - 1) / BATCH_SIZE);
+            for (int i = 0; i < batches; i++) {
+                randoms[i] = calculationRandom.split();
+            }
+            IntStream.range(0, batches)
+                     .parallel()
+                     .mapToObj(i -> sample(holeCards, board, deck, missing, randoms[i],
+                             (int) Math.min(BATCH_SIZE, remaining - (long) i * BATCH_SIZE)))
+                     .toList()
+                     .forEach(total::add);
+        }
+        return total.toResult(false);
+    }
+
+    /**
+     * Calculates the exact equity by scoring every possible rest of the board, at
+     * most C(48,5) boards heads-up preflop. The boards are split by their first card
+     * across all cores.
+     */
+    public Result calculateExact(final long[] holeCards, final long board) {
+        return enumerate(holeCards, board, remainingDeck(holeCards, board), BOARD_SIZE - CardSet.size(board));
+    }
+
+    private static int[] remainingDeck(final long[] holeCards, final long board) {
+        long used = board;
+        for (final long cards : holeCards) {
+            used |= cards;
+        }
+        return CardSet.toIndexes(CardSet.FULL_DECK & ~used);
+    }
+
+    /* package */ static long countBoards(final int cards, final int missing) {
+        long boards = 1;
+        for (int i = 0; i < missing; i++) {
+            boards = boards * (cards - i) / (i + 1);
+        }
+        return boards;
+    }
+
+    private static Result enumerate(final long[] holeCards, final long board, final int[] deck, final int missing) {
+        final Tally total = new Tally(holeCards.length);
+        if (missing == 0) {
+            total.add(HandEvaluator.evaluateAll(holeCards, board));
+        } else {
+            IntStream.rangeClosed(0, deck.length - missing)
+                     .parallel()
+                     .mapToObj(first -> enumerateFrom(holeCards, board, deck, missing, first))
+                     .toList()
+                     .forEach(total::add);
+        }
+        return total.toResult(true);
+    }
+
+    /**
+     * Scores all boards whose lowest new card is {@code deck[first]}. The
+     * combinations are walked in lexicographic order, keeping the mask of every
+     * prefix, so each step only changes the cards behind the advanced position.
+     */
+    private static Tally enumerateFrom(final long[] holeCards, final long board, final int[] deck, final int missing,
+            final int first) {
+        final Tally tally = new Tally(holeCards.length);
+        final int[] strengths = new int[holeCards.length];
+        final int rest = missing - 1;
+        final int[] picks = new int[rest];
+        final long[] prefix = new long[rest + 1];
+        prefix[0] = board | 1L << deck[first];
+        for (int i = 0; i < rest; i++) {
+            picks[i] = first + 1 + i;
+            prefix[i + 1] = prefix[i] | 1L << deck[picks[i]];
+        }
+        while (true) {
+            final long fullBoard = prefix[rest];
+            for (int p = 0; p < holeCards.length; p++) {
+                strengths[p] = HandEvaluator.evaluate(holeCards[p] | fullBoard);
+            }
+            tally.add(strengths);
+
+            int position = rest - 1;
+            while (position >= 0 && picks[position] == deck.length - rest + position) {
+                position--;
+            }
+            if (position < 0) {
+                return tally;
+            }
+            picks[position]++;
+            prefix[position + 1] = prefix[position] | 1L << deck[picks[position]];
+            for (int i = position + 1; i < rest; i++) {
+                picks[i] = picks[i - 1] + 1;
+                prefix[i + 1] = prefix[i] | 1L << deck[picks[i]];
+            }
+        }
+    }
+
+    private static Tally sample(final long[] holeCards, final long board, final int[] sourceDeck, final int missing,
+            final SplittableRandom random, final int samples) {
+        final int[] deck = sourceDeck.clone();
+        final int[] strengths = new int[holeCards.length];
+        final Tally tally = new Tally(holeCards.length);
+        for (int sample = 0; sample < samples; sample++) {
+            long fullBoard = board;
+            // partial Fisher-Yates: the drawn cards end up at the end of the deck
+            for (int i = 0; i < missing; i++) {
+                final int last = deck.length - 1 - i;
+                final int pick = random.nextInt(last + 1);
+                final int card = deck[pick];
+                deck[pick] = deck[last];
+                deck[last] = card;
+                fullBoard |= 1L << card;
+            }
+            for (int p = 0; p < holeCards.length; p++) {
+                strengths[p] = HandEvaluator.evaluate(holeCards[p] | fullBoard);
+            }
+            tally.add(strengths);
+        }
+        return tally;
+    }
+
+    /**
+     * The equities and the number of boards they are based on.
+     *
+     * @param exact whether every possible board was scored
+     */
+    public record Result(List<Equity> equities, long samples, boolean exact) {
+    }
+
+    private static final class Tally {
+
+        private final long[] wins;
+        private final long[] ties;
+        private final double[] shares;
+        private long samples;
+
+        private Tally(final int players) {
+            wins = new long[players];
+            ties = new long[players];
+            shares = new double[players];
+        }
+
+        @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
+        private void add(final int... strengths) {
+            int best = Integer.MIN_VALUE;
+            int winners = 0;
+            for (final int strength : strengths) {
+                if (strength > best) {
+                    best = strength;
+                    winners = 1;
+                } else if (strength == best) {
+                    winners++;
+                }
+            }
+            for (int p = 0; p < strengths.length; p++) {
+                if (strengths[p] == best) {
+                    if (winners == 1) {
+                        wins[p]++;
+                    } else {
+                        ties[p]++;
+                    }
+                    shares[p] += 1d / winners;
+                }
+            }
+            samples++;
+        }
+
+        private void add(final Tally other) {
+            for (int p = 0; p < wins.length; p++) {
+                wins[p] += other.wins[p];
+                ties[p] += other.ties[p];
+                shares[p] += other.shares[p];
+            }
+            samples += other.samples;
+        }
+
+        // the standard error of a share is at most that of a win with the same mean
+        private boolean isPrecise(final double targetError) {
+            if (samples == 0) {
+                return false;
+            }
+            for (final double share : shares) {
+                final double mean = share / samples;
+                if (Math.sqrt(mean * (1 - mean) / samples) > targetError) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Result toResult(final boolean exact) {
+            final Equity[] equities = new Equity[wins.length];
+            for (int p = 0; p < wins.length; p++) {
+                equities[p] = new Equity((double) wins[p] / samples, (double) ties[p] / samples,
+                        shares[p] / samples);
+            }
+            return new Result(List.of(equities), samples, exact);
+        }
+    }
+}
@@ -16,68 +16,36 @@
 package org.continuouspoker.dealer.calculation;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import org.continuouspoker.dealer.calculation.hands.Flush;
-import org.continuouspoker.dealer.calculation.hands.FourOfAKind;
-import org.continuouspoker.dealer.calculation.hands.FullHouse;
-import org.continuouspoker.dealer.calculation.hands.HighCard;
-import org.continuouspoker.dealer.calculation.hands.Pair;
-import org.continuouspoker.dealer.calculation.hands.PokerHand;
-import org.continuouspoker.dealer.calculation.hands.RoyalFlush;
+import org.continuouspoker.dealer.calculation.hands.HandEvaluator;
 import org.continuouspoker.dealer.calculation.hands.Score;
-import org.continuouspoker.dealer.calculation.hands.Straight;
-import org.continuouspoker.dealer.calculation.hands.StraightFlush;
-import org.continuouspoker.dealer.calculation.hands.ThreeOfAKind;
-import org.continuouspoker.dealer.calculation.hands.TwoPair;
 import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
 import org.continuouspoker.dealer.data.Player;
 
 public class HandCalculator {
 
-    private final List<PokerHand> hands;
-
-    public HandCalculator() {
-        hands = new ArrayList<>();
-
-        hands.add(new RoyalFlush());
-        hands.add(new StraightFlush());
-        hands.add(new FourOfAKind());
-        hands.add(new FullHouse());
-        hands.add(new Flush());
-        hands.add(new Straight());
-        hands.add(new ThreeOfAKind());
-        hands.add(new TwoPair());
-        hands.add(new Pair());
-        hands.add(new HighCard());
-    }
-
     public Map<Score, List<Player>> determineWinningHand(final List<Player> players, final List<Card> communityCards) {
+        return determineWinningHand(players, CardSet.of(communityCards));
+    }
 
-        final TreeMap<Score, List<Player>> playerScores = new TreeMap<>(new ScoreComparator());
-        final List<Card> hand = new ArrayList<>();
-        for (final Player player : players) {
-            final List<Card> cards = player.getCards();
-            hand.clear();
-            hand.addAll(cards);
-            hand.addAll(communityCards);
-
-            for (final PokerHand calc : hands) {
-                if (calc.matches(Collections.unmodifiableList(hand))) {
-                    final Score score = calc.calculateScore(hand);
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public Map<Score, List<Player>> determineWinningHand(final List<Player> players, final long communityCards) {
 
+        final long[] holeCards = new long[players.size()];
+        for (int i = 0; i < holeCards.length; i++) {
+            holeCards[i] = players.get(i).getCardSet();
+        }
+        final int[] strengths = HandEvaluator.evaluateAll(holeCards, communityCards);
 
-                    playerScores.computeIfAbsent(score, k -> new ArrayList<>()).add(player);
-                    break;
-                }
-            }
+        final TreeMap<Score, List<Player>> playerScores = new TreeMap<>(new ScoreComparator());
+        for (int i = 0; i < strengths.length; i++) {
+            playerScores.computeIfAbsent(new Score(strengths[i]), k -> new ArrayList<>()).add(players.get(i));
         }
         return playerScores;
     }
 
-
-
 }
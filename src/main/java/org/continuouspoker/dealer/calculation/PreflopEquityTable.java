@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import org.continuouspoker.dealer.data.CardSet;
+
+/**
+ * Precomputed preflop equities of the 169 starting hands, heads-up against each
+ * other and against one to nine random hands. The entries are averaged over all
+ * suits, so they only estimate a class of hands like {@code AKs}.
+ *
+ * <p>The table is written by {@link PreflopTableGenerator}.</p>
+ */
+@Slf4j
+public final class PreflopEquityTable {
+
+    public static final int NUMBER_OF_HANDS = CardSet.NUMBER_OF_RANKS * CardSet.NUMBER_OF_RANKS;
+    public static final int MAX_OPPONENTS = 9;
+    public static final String RESOURCE = "preflop-equity.bin";
+
+    /* package */ static final int MAGIC = 0x50464551;
+    /* package */ static final int VERSION = 1;
+    /* package */ static final int HEADER_SIZE = 3 * Integer.BYTES;
+    // win, tie and share of an entry, each as a fraction of 65535
+    /* package */ static final int ENTRY_SIZE = 3 * Character.BYTES;
+    /* package */ static final double SCALE = Character.MAX_VALUE;
+    /* package */ static final int SIZE = HEADER_SIZE + (NUMBER_OF_HANDS * NUMBER_OF_HANDS
+            + NUMBER_OF_HANDS * MAX_OPPONENTS) * ENTRY_SIZE;
+
+    private static final String RANKS = "23456789TJQKA";
+    private static final int UNPAIRED_LENGTH = 3;
+    private static final int SHARE_OFFSET = 2 * Character.BYTES;
+
+    private final ByteBuffer data;
+    private final int samples;
+
+    /* package */ PreflopEquityTable(final ByteBuffer data) {
+        if (data.capacity() != SIZE || data.getInt(0) != MAGIC || data.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Not a preflop equity table of version " + VERSION);
+        }
+        this.data = data;
+        this.samples = data.getInt(2 * Integer.BYTES);
+    }
+
+    /**
+     * The table shipped with the dealer, if it is on the class path.
+     */
+    public static Optional<PreflopEquityTable> getDefault() {
+        return Holder.TABLE;
+    }
+
+    /**
+     * Maps the table from a file, so it is paged in by the operating system instead
+     * of copied to the heap.
+     */
+    public static PreflopEquityTable load(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new PreflopEquityTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // a table in an unpacked class path is mapped, one inside a jar has to be read
+    private static Optional<PreflopEquityTable> loadResource() {
+        final URL url = PreflopEquityTable.class.getResource(RESOURCE);
+        if (url == null) {
+            log.warn("No preflop equity table {} on the class path", RESOURCE);
+            return Optional.empty();
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return Optional.of(load(Path.of(url.toURI())));
+            }
+            try (InputStream input = url.openStream()) {
+                return Optional.of(new PreflopEquityTable(ByteBuffer.wrap(input.readAllBytes()).asReadOnlyBuffer()));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not read the preflop equity table", e);
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The number of boards each entry was sampled from.
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * @param hand  the hole cards of the player, as {@link CardSet} mask
+     * @param other the hole cards of the opponent
+     */
+    public Equity headsUp(final long hand, final long other) {
+        return headsUp(indexOf(hand), indexOf(other));
+    }
+
+    public Equity headsUp(final int hand, final int other) {
+        return read(HEADER_SIZE + (hand * NUMBER_OF_HANDS + other) * ENTRY_SIZE);
+    }
+
+    /**
+     * The equity of a hand against the given number of random opponents.
+     */
+    public Equity againstRandom(final long hand, final int opponents) {
+        return againstRandom(indexOf(hand), opponents);
+    }
+
+    public Equity againstRandom(final int hand, final int opponents) {
+        if (opponents < 1 || opponents > MAX_OPPONENTS) {
+            throw new IllegalArgumentException("Only 1 to " + MAX_OPPONENTS + " opponents are supported");
+        }
+        return read(HEADER_SIZE + (NUMBER_OF_HANDS * NUMBER_OF_HANDS + hand * MAX_OPPONENTS + opponents - 1)
+                * ENTRY_SIZE);
+    }
+
+    private Equity read(final int position) {
+        return new Equity(data.getChar(position) / SCALE, data.getChar(position + Character.BYTES) / SCALE,
+                data.getChar(position + SHARE_OFFSET) / SCALE);
+    }
+
+    /**
+     * @param holeCards two cards as {@link CardSet} mask
+     * @return the index of the starting hand
+     */
+    public static int indexOf(final long holeCards) {
+        final int first = Long.numberOfTrailingZeros(holeCards);
+        final int second = Long.SIZE - 1 - Long.numberOfLeadingZeros(holeCards);
+        return indexOf(first % CardSet.NUMBER_OF_RANKS, second % CardSet.NUMBER_OF_RANKS,
+                first / CardSet.NUMBER_OF_RANKS == second / CardSet.NUMBER_OF_RANKS);
+    }
+
+    // ranks count from 0 for a two, suited hands have the higher rank as the row
+    /* package */ static int indexOf(final int rank, final int otherRank, final boolean suited) {
+        final int high = Math.max(rank, otherRank);
+        final int low = Math.min(rank, otherRank);
+        return suited ? high * CardSet.NUMBER_OF_RANKS + low : low * CardSet.NUMBER_OF_RANKS + high;
+    }
+
+    /**
+     * Parses a starting hand like {@code AKs}, {@code T9o} or {@code QQ}.
+     */
+    public static int indexOf(final String hand) {
+        final String normalized = hand.toUpperCase(Locale.ROOT);
+        final boolean pair = normalized.length() == 2 && normalized.charAt(0) == normalized.charAt(1);
+        final char kind = normalized.length() == UNPAIRED_LENGTH ? normalized.charAt(2) : ' ';
+        final boolean suited = kind == 'S';
+        if (!pair && !suited && kind != 'O') {
+            throw new IllegalArgumentException("Not a starting hand: " + hand);
+        }
+        final int high = rankOf(normalized.charAt(0), hand);
+        final int low = rankOf(normalized.charAt(1), hand);
+        if (!pair && high == low) {
+            throw new IllegalArgumentException("Not a starting hand: " + hand);
+        }
+        return indexOf(high, low, suited);
+    }
+
+    private static int rankOf(final char rank, final String hand) {
+        final int index = RANKS.indexOf(rank);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not a starting hand: " + hand);
+        }
+        return index;
+    }
+
+    public static String nameOf(final int hand) {
+        final int row = hand / CardSet.NUMBER_OF_RANKS;
+        final int column = hand % CardSet.NUMBER_OF_RANKS;
+        final StringBuilder name = new StringBuilder().append(RANKS.charAt(Math.max(row, column)))
+                                                      .append(RANKS.charAt(Math.min(row, column)));
+        if (row != column) {
+            name.append(row > column ? 's' : 'o');
+        }
+        return name.toString();
+    }
+
+    private static final class Holder {
+        private static final Optional<PreflopEquityTable> TABLE = loadResource();
+    }
+}
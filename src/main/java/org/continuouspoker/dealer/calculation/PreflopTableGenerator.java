@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.continuouspoker.dealer.calculation.hands.HandEvaluator;
+import org.continuouspoker.dealer.data.CardSet;
+
+/**
+ * Writes the {@link PreflopEquityTable} by sampling random suits and boards for
+ * every pair of starting hands, and for every starting hand against random
+ * opponents. The rows of the table are sampled in parallel on all cores.
+ *
+ * <p>Run it with {@code mvn -Ppreflop-table process-classes}.</p>
+ */
+public class PreflopTableGenerator {
+
+    private static final int DEFAULT_SAMPLES = 25_000;
+    /* package */ static final long SEED = 42L;
+    private static final int BOARD_SIZE = 5;
+    private static final int WIN = 0;
+    private static final int TIE = 1;
+    private static final int SHARE = 2;
+    private static final double EVEN_SHARE = 0.5;
+
+    private final int samples;
+    private final long seed;
+
+    public PreflopTableGenerator(final int samples, final long seed) {
+        this.samples = samples;
+        this.seed = seed;
+    }
+
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String... args) throws IOException {
+        final int samples = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SAMPLES;
+        final Path file = Path.of(args.length > 1 ? args[1]
+                : "src/main/resources/org/continuouspoker/dealer/calculation/" + PreflopEquityTable.RESOURCE);
+        final long start = System.nanoTime();
+        final ByteBuffer table = new PreflopTableGenerator(samples, SEED).generate();
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, table.array());
+        System.out.printf("Wrote %s with %s samples per entry in %s s%n", file, samples,
+                Duration.ofNanos(System.nanoTime() - start).toSeconds());
+    }
+
+    public ByteBuffer generate() {
+        final ByteBuffer table = ByteBuffer.allocate(PreflopEquityTable.SIZE);
+        table.putInt(PreflopEquityTable.MAGIC).putInt(PreflopEquityTable.VERSION).putInt(samples);
+
+        final SplittableRandom[] randoms = splitRows();
+        final double[][][] headsUp = new double[PreflopEquityTable.NUMBER_OF_HANDS][][];
+        final double[][][] multiway = new double[PreflopEquityTable.NUMBER_OF_HANDS][][];
+        IntStream.range(0, PreflopEquityTable.NUMBER_OF_HANDS).parallel().forEach(hand -> {
+            headsUp[hand] = sampleHeadsUp(hand, randoms[hand]);
+            multiway[hand] = sampleMultiway(hand, randoms[hand]);
+        });
+
+        // each matchup was sampled once, from the side of the hand with the lower index
+        for (int hand = 0; hand < PreflopEquityTable.NUMBER_OF_HANDS; hand++) {
+            for (int other = 0; other < PreflopEquityTable.NUMBER_OF_HANDS; other++) {
+                if (hand <= other) {
+                    put(table, headsUp[hand][other]);
+                } else {
+                    final double[] reverse = headsUp[other][hand];
+                    final double tie = reverse[TIE];
+                    put(table, 1 - reverse[WIN] - tie, tie, 1 - reverse[SHARE]);
+                }
+            }
+        }
+        for (int hand = 0; hand < PreflopEquityTable.NUMBER_OF_HANDS; hand++) {
+            for (final double[] entry : multiway[hand]) {
+                put(table, entry);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Samples the entries of one starting hand with the same boards as
+     * {@link #generate()}: against every hand from its own index on, followed by
+     * the entries against one to nine random hands.
+     */
+    /* package */ double[][] sampleRow(final int hand) {
+        final SplittableRandom rowRandom = splitRows()[hand];
+        final double[][] headsUp = sampleHeadsUp(hand, rowRandom);
+        final double[][] multiway = sampleMultiway(hand, rowRandom);
+        final double[][] row = new double[PreflopEquityTable.NUMBER_OF_HANDS - hand + multiway.length][];
+        System.arraycopy(headsUp, hand, row, 0, PreflopEquityTable.NUMBER_OF_HANDS - hand);
+        System.arraycopy(multiway, 0, row, PreflopEquityTable.NUMBER_OF_HANDS - hand, multiway.length);
+        return row;
+    }
+
+    // one random per row, so the rows can be sampled in parallel and still draw the
+    // same boards every time
+    private SplittableRandom[] splitRows() {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final SplittableRandom[] randoms = new SplittableRandom[PreflopEquityTable.NUMBER_OF_HANDS];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = random.split();
+        }
+        return randoms;
+    }
+
+    private static void put(final ByteBuffer table, final double... entry) {
+        for (final double value : entry) {
+            table.putChar((char) Math.round(Math.max(0, Math.min(1, value)) * PreflopEquityTable.SCALE));
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private double[][] sampleHeadsUp(final int hand, final SplittableRandom random) {
+        final double[][] result = new double[PreflopEquityTable.NUMBER_OF_HANDS][];
+        final long[] holeCards = new long[2];
+        final int[] strengths = new int[2];
+        for (int other = hand; other < PreflopEquityTable.NUMBER_OF_HANDS; other++) {
+            final double[] tally = new double[SHARE + 1];
+            for (int sample = 0; sample < samples; sample++) {
+                // both hands are dealt again on a clash, so all valid suits are equally likely
+                do {
+                    holeCards[0] = dealHand(hand, CardSet.EMPTY, random);
+                    holeCards[1] = dealHand(other, CardSet.EMPTY, random);
+                } while ((holeCards[0] & holeCards[1]) != 0);
+                score(holeCards, dealBoard(holeCards[0] | holeCards[1], random), strengths, tally);
+            }
+            result[other] = toEntry(tally);
+            if (other == hand) {
+                // both sides hold the same hand, so they win equally often
+                final double win = (1 - result[other][TIE]) / 2;
+                result[other] = new double[] { win, result[other][TIE], EVEN_SHARE };
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private double[][] sampleMultiway(final int hand, final SplittableRandom random) {
+        final double[][] result = new double[PreflopEquityTable.MAX_OPPONENTS][];
+        for (int opponents = 1; opponents <= PreflopEquityTable.MAX_OPPONENTS; opponents++) {
+            final long[] holeCards = new long[opponents + 1];
+            final int[] strengths = new int[opponents + 1];
+            final double[] tally = new double[SHARE + 1];
+            for (int sample = 0; sample < samples; sample++) {
+                holeCards[0] = dealHand(hand, CardSet.EMPTY, random);
+                long used = holeCards[0];
+                for (int i = 1; i <= opponents; i++) {
+                    holeCards[i] = dealCards(2, used, random);
+                    used |= holeCards[i];
+                }
+                score(holeCards, dealBoard(used, random), strengths, tally);
+            }
+            result[opponents - 1] = toEntry(tally);
+        }
+        return result;
+    }
+
+    // counts the outcome for the first hand
+    @SuppressWarnings("PMD.UseVarargs")
+    private static void score(final long[] holeCards, final long board, final int[] strengths,
+            final double[] tally) {
+        int best = Integer.MIN_VALUE;
+        int winners = 0;
+        for (int i = 0; i < holeCards.length; i++) {
+            strengths[i] = HandEvaluator.evaluate(holeCards[i] | board);
+            if (strengths[i] > best) {
+                best = strengths[i];
+                winners = 1;
+            } else if (strengths[i] == best) {
+                winners++;
+            }
+        }
+        if (strengths[0] == best) {
+            tally[winners == 1 ? WIN : TIE]++;
+            tally[SHARE] += 1d / winners;
+        }
+    }
+
+    private double[] toEntry(final double... tally) {
+        return new double[] { tally[WIN] / samples, tally[TIE] / samples, tally[SHARE] / samples };
+    }
+
+    private static long dealBoard(final long used, final SplittableRandom random) {
+        return dealCards(BOARD_SIZE, used, random);
+    }
+
+    private static long dealCards(final int count, final long used, final SplittableRandom random) {
+        long cards = CardSet.EMPTY;
+        while (CardSet.size(cards) < count) {
+            final long card = 1L << random.nextInt(CardSet.NUMBER_OF_CARDS);
+            if ((card & used) == 0) {
+                cards |= card;
+            }
+        }
+        return cards;
+    }
+
+    // two cards of the given starting hand in random suits, avoiding the used cards
+    private static long dealHand(final int hand, final long used, final SplittableRandom random) {
+        final int row = hand / CardSet.NUMBER_OF_RANKS;
+        final int column = hand % CardSet.NUMBER_OF_RANKS;
+        final boolean suited = row > column;
+        while (true) {
+            final int suit = random.nextInt(CardSet.NUMBER_OF_SUITS);
+            final int otherSuit = suited ? suit : random.nextInt(CardSet.NUMBER_OF_SUITS);
+            if (!suited && suit == otherSuit) {
+                continue;
+            }
+            final long cards = 1L << suit * CardSet.NUMBER_OF_RANKS + row
+                    | 1L << otherSuit * CardSet.NUMBER_OF_RANKS + column;
+            if ((cards & used) == 0) {
+                return cards;
+            }
+        }
+    }
+}
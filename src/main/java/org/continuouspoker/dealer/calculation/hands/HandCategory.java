@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation.hands;
+
+public enum HandCategory {
+
+    // the multipliers reproduce the historic score arrays, e.g. a pair of fives is
+    // scored as 10
+    HIGH_CARD("High Card", 1, 1, 1, 1, 1),
+    PAIR("Pair", 2, 1, 1, 1),
+    TWO_PAIR("Two Pair", 2, 2, 1),
+    THREE_OF_A_KIND("Three Of A Kind", 3, 1, 1),
+    STRAIGHT("Straight", 1),
+    FLUSH("Flush", 1, 1, 1, 1, 1),
+    FULL_HOUSE("Full House", 3, 2),
+    FOUR_OF_A_KIND("Four Of A Kind", 4, 1),
+    STRAIGHT_FLUSH("Straight flush", 1),
+    ROYAL_FLUSH("Royal Flush");
+
+    private static final HandCategory[] VALUES = values();
+
+    private final String displayName;
+    private final int[] multipliers;
+
+    HandCategory(final String displayName, final int... multipliers) {
+        this.displayName = displayName;
+        this.multipliers = multipliers.clone();
+    }
+
+    public static HandCategory forValue(final int value) {
+        return VALUES[value];
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getValue() {
+        return ordinal();
+    }
+
+    /* package */ int getNumberOfRanks() {
+        return multipliers.length;
+    }
+
+    /* package */ int getMultiplier(final int position) {
+        return multipliers[position];
+    }
+}
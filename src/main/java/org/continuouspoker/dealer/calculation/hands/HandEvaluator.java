@@ -0,0 +1,301 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation.hands;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
+import org.continuouspoker.dealer.data.Suit;
+
+/**
+ * Ranks 5 to 7 card hands with a few bit operations and table lookups instead of
+ * grouping the cards per hand type. The result is a packed strength: the
+ * {@link HandCategory} in the upper bits followed by up to five rank values
+ * (2-14) as 4 bit nibbles, most significant first. Higher is better.
+ */
+// a few branchy methods on bit masks, as this runs for every sampled board
+@SuppressWarnings({ "PMD.GodClass", "PMD.CyclomaticComplexity", "PMD.NPathComplexity",
+                    "PMD.AvoidLiteralsInIfCondition"
+})
+public final class HandEvaluator {
+
+    private static final int RANK_BITS = (1 << CardSet.NUMBER_OF_RANKS) - 1;
+    private static final int LOWEST_VALUE = 2;
+    private static final int ACE_VALUE = 14;
+    private static final int FIVE_VALUE = 5;
+    private static final int HAND_SIZE = 5;
+    private static final int PAIR_KICKERS = 3;
+    private static final int WHEEL = 0b1_0000_0000_1111;
+    private static final int STRAIGHT_BITS = 0b1_1111;
+    // below this many hands splitting the work costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 16_384;
+
+    /* package */ static final int NIBBLE = 4;
+    /* package */ static final int NIBBLE_MASK = 0xF;
+    /* package */ static final int CATEGORY_SHIFT = HAND_SIZE * NIBBLE;
+
+    // both tables are indexed directly by a 13 bit rank mask, so a lookup is a
+    // perfect hash without collisions
+    private static final int[] STRAIGHT_HIGH = new int[RANK_BITS + 1];
+    private static final int[] TOP_RANKS = new int[RANK_BITS + 1];
+
+    static {
+        for (int mask = 0; mask <= RANK_BITS; mask++) {
+            STRAIGHT_HIGH[mask] = findStraight(mask);
+            TOP_RANKS[mask] = packTopRanks(mask);
+        }
+    }
+
+    private HandEvaluator() {
+    }
+
+    public static int evaluate(final List<Card> cards) {
+        return evaluate(CardSet.of(cards));
+    }
+
+    public static int evaluate(final List<Card> holeCards, final List<Card> communityCards) {
+        return evaluate(CardSet.of(holeCards) | CardSet.of(communityCards));
+    }
+
+    public static HandCategory getCategory(final int strength) {
+        return HandCategory.forValue(strength >>> CATEGORY_SHIFT);
+    }
+
+    /**
+     * @param cards a {@link CardSet} of 5 to 7 cards
+     */
+    public static int evaluate(final long cards) {
+        final int hearts = CardSet.ranksOfSuit(cards, Suit.HEARTS);
+        final int spades = CardSet.ranksOfSuit(cards, Suit.SPADES);
+        final int clubs = CardSet.ranksOfSuit(cards, Suit.CLUBS);
+        final int diamonds = CardSet.ranksOfSuit(cards, Suit.DIAMONDS);
+
+        final int flush = flushRanks(hearts, spades, clubs, diamonds);
+        if (flush != 0 && STRAIGHT_HIGH[flush] != 0) {
+            return straightFlush(flush);
+        }
+        final int any = hearts | spades | clubs | diamonds;
+        final int quads = hearts & spades & clubs & diamonds;
+        if (quads != 0) {
+            return fourOfAKind(any, quads);
+        }
+        final int trips = (hearts & spades & (clubs | diamonds)) | (clubs & diamonds & (hearts | spades));
+        final int pairs = (hearts & spades) | (clubs & diamonds) | ((hearts | spades) & (clubs | diamonds));
+        if (trips != 0 && Integer.bitCount(pairs) > 1) {
+            return fullHouse(trips, pairs);
+        }
+        if (flush != 0) {
+            return score(HandCategory.FLUSH, TOP_RANKS[flush]);
+        }
+        if (STRAIGHT_HIGH[any] != 0) {
+            return straight(any);
+        }
+        if (trips != 0) {
+            return threeOfAKind(any, trips);
+        }
+        if (Integer.bitCount(pairs) > 1) {
+            return twoPair(any, pairs);
+        }
+        if (pairs != 0) {
+            return pair(any, pairs);
+        }
+        return score(HandCategory.HIGH_CARD, TOP_RANKS[any]);
+    }
+
+    /**
+     * Scores many hands at once: {@code holeCards[i] | boards[i]} is scored into
+     * {@code result[i]}. Large batches are split across the common fork join pool.
+     *
+     * @return the strengths, in the order of the given hands
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    public static int[] evaluateAll(final long[] holeCards, final long[] boards) {
+        if (holeCards.length != boards.length) {
+            throw new IllegalArgumentException(
+                    "Got " + holeCards.length + " hole cards for " + boards.length + " boards");
+        }
+        final int[] result = new int[holeCards.length];
+        if (result.length < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = evaluate(holeCards[i] | boards[i]);
+            }
+        } else {
+            Arrays.parallelSetAll(result, i -> evaluate(holeCards[i] | boards[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Scores the hole cards of several players against the same board.
+     */
+    public static int[] evaluateAll(final long[] holeCards, final long board) {
+        final int[] result = new int[holeCards.length];
+        if (result.length < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = evaluate(holeCards[i] | board);
+            }
+        } else {
+            Arrays.parallelSetAll(result, i -> evaluate(holeCards[i] | board));
+        }
+        return result;
+    }
+
+    /* package */ static boolean matches(final List<Card> cards, final HandCategory category) {
+        final long mask = CardSet.of(cards);
+        final int hearts = CardSet.ranksOfSuit(mask, Suit.HEARTS);
+        final int spades = CardSet.ranksOfSuit(mask, Suit.SPADES);
+        final int clubs = CardSet.ranksOfSuit(mask, Suit.CLUBS);
+        final int diamonds = CardSet.ranksOfSuit(mask, Suit.DIAMONDS);
+        final int any = hearts | spades | clubs | diamonds;
+        final int flush = flushRanks(hearts, spades, clubs, diamonds);
+        final int trips = (hearts & spades & (clubs | diamonds)) | (clubs & diamonds & (hearts | spades));
+        final int pairs = (hearts & spades) | (clubs & diamonds) | ((hearts | spades) & (clubs | diamonds));
+
+        return switch (category) {
+            case ROYAL_FLUSH -> STRAIGHT_HIGH[flush] == ACE_VALUE;
+            case STRAIGHT_FLUSH -> STRAIGHT_HIGH[flush] != 0;
+            case FOUR_OF_A_KIND -> (hearts & spades & clubs & diamonds) != 0;
+            case FULL_HOUSE -> trips != 0 && Integer.bitCount(pairs) > 1;
+            case FLUSH -> flush != 0;
+            case STRAIGHT -> STRAIGHT_HIGH[any] != 0;
+            case THREE_OF_A_KIND -> trips != 0;
+            case TWO_PAIR -> Integer.bitCount(pairs) > 1;
+            case PAIR -> pairs != 0;
+            case HIGH_CARD -> true;
+        };
+    }
+
+    /**
+     * Scores the cards as the given category, ignoring any better category.
+     */
+    /* package */ static int evaluateAs(final List<Card> cards, final HandCategory category) {
+        if (category == HandCategory.ROYAL_FLUSH) {
+            // a royal flush has no kickers, so there is nothing to look at
+            return score(HandCategory.ROYAL_FLUSH, 0);
+        }
+        if (!matches(cards, category)) {
+            throw new IllegalStateException("Cards do not contain a " + category.getDisplayName());
+        }
+        final long mask = CardSet.of(cards);
+        final int hearts = CardSet.ranksOfSuit(mask, Suit.HEARTS);
+        final int spades = CardSet.ranksOfSuit(mask, Suit.SPADES);
+        final int clubs = CardSet.ranksOfSuit(mask, Suit.CLUBS);
+        final int diamonds = CardSet.ranksOfSuit(mask, Suit.DIAMONDS);
+        final int any = hearts | spades | clubs | diamonds;
+        final int flush = flushRanks(hearts, spades, clubs, diamonds);
+        final int trips = (hearts & spades & (clubs | diamonds)) | (clubs & diamonds & (hearts | spades));
+        final int pairs = (hearts & spades) | (clubs & diamonds) | ((hearts | spades) & (clubs | diamonds));
+
+        return switch (category) {
+            case ROYAL_FLUSH, STRAIGHT_FLUSH -> straightFlush(flush);
+            case FOUR_OF_A_KIND -> fourOfAKind(any, hearts & spades & clubs & diamonds);
+            case FULL_HOUSE -> fullHouse(trips, pairs);
+            case FLUSH -> score(HandCategory.FLUSH, TOP_RANKS[flush]);
+            case STRAIGHT -> straight(any);
+            case THREE_OF_A_KIND -> threeOfAKind(any, trips);
+            case TWO_PAIR -> twoPair(any, pairs);
+            case PAIR -> pair(any, pairs);
+            case HIGH_CARD -> score(HandCategory.HIGH_CARD, TOP_RANKS[any]);
+        };
+    }
+
+    private static int straightFlush(final int flush) {
+        final int high = STRAIGHT_HIGH[flush];
+        if (high == ACE_VALUE) {
+            return score(HandCategory.ROYAL_FLUSH, 0);
+        }
+        return score(HandCategory.STRAIGHT_FLUSH, topRanks(1 << high - LOWEST_VALUE, 1));
+    }
+
+    private static int fourOfAKind(final int any, final int quads) {
+        final int quad = Integer.highestOneBit(quads);
+        return score(HandCategory.FOUR_OF_A_KIND, topRanks(quad, 1) << NIBBLE | topRanks(any & ~quad, 1));
+    }
+
+    private static int fullHouse(final int trips, final int pairs) {
+        final int trip = Integer.highestOneBit(trips);
+        return score(HandCategory.FULL_HOUSE, topRanks(trip, 1) << NIBBLE | topRanks(pairs & ~trip, 1));
+    }
+
+    private static int straight(final int any) {
+        return score(HandCategory.STRAIGHT, topRanks(1 << STRAIGHT_HIGH[any] - LOWEST_VALUE, 1));
+    }
+
+    private static int threeOfAKind(final int any, final int trips) {
+        final int trip = Integer.highestOneBit(trips);
+        return score(HandCategory.THREE_OF_A_KIND, topRanks(trip, 1) << 2 * NIBBLE | topRanks(any & ~trip, 2));
+    }
+
+    private static int twoPair(final int any, final int pairs) {
+        final int highPair = Integer.highestOneBit(pairs);
+        final int bothPairs = highPair | Integer.highestOneBit(pairs & ~highPair);
+        return score(HandCategory.TWO_PAIR, topRanks(bothPairs, 2) << NIBBLE | topRanks(any & ~bothPairs, 1));
+    }
+
+    private static int pair(final int any, final int pairs) {
+        final int pair = Integer.highestOneBit(pairs);
+        return score(HandCategory.PAIR, topRanks(pair, 1) << PAIR_KICKERS * NIBBLE | topRanks(any & ~pair, PAIR_KICKERS));
+    }
+
+    private static int score(final HandCategory category, final int ranks) {
+        // left align the ranks so hands of the same category always compare rank by rank
+        final int shift = (HAND_SIZE - category.getNumberOfRanks()) * NIBBLE;
+        return category.getValue() << CATEGORY_SHIFT | ranks << shift;
+    }
+
+    private static int topRanks(final int mask, final int count) {
+        return TOP_RANKS[mask] >>> (HAND_SIZE - count) * NIBBLE;
+    }
+
+    private static int flushRanks(final int hearts, final int spades, final int clubs, final int diamonds) {
+        if (Integer.bitCount(hearts) >= HAND_SIZE) {
+            return hearts;
+        } else if (Integer.bitCount(spades) >= HAND_SIZE) {
+            return spades;
+        } else if (Integer.bitCount(clubs) >= HAND_SIZE) {
+            return clubs;
+        } else if (Integer.bitCount(diamonds) >= HAND_SIZE) {
+            return diamonds;
+        }
+        return 0;
+    }
+
+    private static int findStraight(final int mask) {
+        for (int high = ACE_VALUE; high > FIVE_VALUE; high--) {
+            final int straight = STRAIGHT_BITS << high - FIVE_VALUE - 1;
+            if ((mask & straight) == straight) {
+                return high;
+            }
+        }
+        return (mask & WHEEL) == WHEEL ? FIVE_VALUE : 0;
+    }
+
+    private static int packTopRanks(final int mask) {
+        int packed = 0;
+        int remaining = mask;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            packed <<= NIBBLE;
+            if (remaining != 0) {
+                final int top = Integer.highestOneBit(remaining);
+                packed |= Integer.numberOfTrailingZeros(top) + LOWEST_VALUE;
+                remaining &= ~top;
+            }
+        }
+        return packed;
+    }
+}
@@ -21,8 +21,14 @@ import org.continuouspoker.dealer.data.Card;
 
 public interface PokerHand {
 
-    Score calculateScore(List<Card> cards);
+    HandCategory getCategory();
 
-    boolean matches(List<Card> cards);
+    default Score calculateScore(final List<Card> cards) {
+        return new Score(HandEvaluator.evaluateAs(cards, getCategory()));
+    }
+
+    default boolean matches(final List<Card> cards) {
+        return HandEvaluator.matches(cards, getCategory());
+    }
 
 }
@@ -15,6 +15,36 @@
  */
 package org.continuouspoker.dealer.calculation.hands;
 
-public record Score(String name, int[] scoreRank) {
+/**
+ * A hand strength as packed by the {@link HandEvaluator}, so two scores compare
+ * with a single integer comparison. The name and the rank array are only derived
+ * when someone asks for them, e.g. for the game log.
+ */
+public record Score(int strength) implements Comparable<Score> {
+
+    public HandCategory category() {
+        return HandEvaluator.getCategory(strength);
+    }
+
+    public String name() {
+        return category().getDisplayName();
+    }
+
+    public int[] scoreRank() {
+        final HandCategory category = category();
+        final int[] scoreRank = new int[category.getNumberOfRanks() + 1];
+        scoreRank[0] = category.getValue();
+        for (int i = 0; i < category.getNumberOfRanks(); i++) {
+            final int rank = strength >>> HandEvaluator.CATEGORY_SHIFT - (i + 1) * HandEvaluator.NIBBLE
+                    & HandEvaluator.NIBBLE_MASK;
+            scoreRank[i + 1] = rank * category.getMultiplier(i);
+        }
+        return scoreRank;
+    }
+
+    @Override
+    public int compareTo(final Score other) {
+        return Integer.compare(strength, other.strength);
+    }
 
 }
@@ -46,4 +46,9 @@ public class Card implements Comparable<Card>, Serializable {
         return rank.getValue();
     }
 
+    @JsonIgnore
+    public int getIndex() {
+        return CardSet.indexOf(this);
+    }
+
 }
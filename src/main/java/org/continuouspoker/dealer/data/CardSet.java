@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Primitive card encoding: every card has an index from 0 to 51
+ * ({@code suit * 13 + value - 2}) and a set of cards is a {@code long} with the
+ * bit of each contained card set. Each suit occupies 13 consecutive bits ordered
+ * by rank.
+ */
+public final class CardSet {
+
+    public static final int NUMBER_OF_RANKS = 13;
+    public static final int NUMBER_OF_SUITS = 4;
+    public static final int NUMBER_OF_CARDS = NUMBER_OF_RANKS * NUMBER_OF_SUITS;
+    public static final long EMPTY = 0L;
+    public static final long FULL_DECK = (1L << NUMBER_OF_CARDS) - 1;
+
+    private static final int LOWEST_VALUE = 2;
+    private static final int RANK_BITS = (1 << NUMBER_OF_RANKS) - 1;
+    private static final long RANK_COLUMN = 1L | 1L << NUMBER_OF_RANKS | 1L << 2 * NUMBER_OF_RANKS
+            | 1L << (NUMBER_OF_SUITS - 1) * NUMBER_OF_RANKS;
+    private static final Card[] CARDS = new Card[NUMBER_OF_CARDS];
+
+    static {
+        for (final Suit suit : Suit.values()) {
+            for (final Rank rank : Rank.values()) {
+                CARDS[indexOf(rank, suit)] = new Card(rank, suit);
+            }
+        }
+    }
+
+    private CardSet() {
+    }
+
+    public static int indexOf(final Rank rank, final Suit suit) {
+        return suit.ordinal() * NUMBER_OF_RANKS + rank.getValue() - LOWEST_VALUE;
+    }
+
+    public static int indexOf(final Card card) {
+        return indexOf(card.getRank(), card.getSuit());
+    }
+
+    public static Card toCard(final int index) {
+        return CARDS[index];
+    }
+
+    @SuppressWarnings("PMD.ShortMethodName")
+    public static long of(final Card card) {
+        return 1L << indexOf(card);
+    }
+
+    @SuppressWarnings("PMD.ShortMethodName")
+    public static long of(final Collection<Card> cards) {
+        long set = EMPTY;
+        for (final Card card : cards) {
+            set |= of(card);
+        }
+        return set;
+    }
+
+    public static boolean contains(final long cards, final Card card) {
+        return (cards & of(card)) != 0;
+    }
+
+    public static int size(final long cards) {
+        return Long.bitCount(cards);
+    }
+
+    public static List<Card> toCards(final long cards) {
+        final List<Card> result = new ArrayList<>(size(cards));
+        long remaining = cards;
+        while (remaining != 0) {
+            result.add(CARDS[Long.numberOfTrailingZeros(remaining)]);
+            remaining &= remaining - 1;
+        }
+        return result;
+    }
+
+    /**
+     * @return the indexes of the given cards, in ascending order
+     */
+    public static int[] toIndexes(final long cards) {
+        final int[] result = new int[size(cards)];
+        long remaining = cards;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        return result;
+    }
+
+    /**
+     * @return the ranks of the suit as 13 bit mask, bit 0 a two and bit 12 an ace
+     */
+    public static int ranksOfSuit(final long cards, final int suit) {
+        return (int) (cards >>> suit * NUMBER_OF_RANKS) & RANK_BITS;
+    }
+
+    public static int ranksOfSuit(final long cards, final Suit suit) {
+        return ranksOfSuit(cards, suit.ordinal());
+    }
+
+    public static int countOfSuit(final long cards, final Suit suit) {
+        return Integer.bitCount(ranksOfSuit(cards, suit));
+    }
+
+    public static int countOfRank(final long cards, final Rank rank) {
+        return Long.bitCount(cards & RANK_COLUMN << rank.getValue() - LOWEST_VALUE);
+    }
+}
@@ -16,48 +16,82 @@
 package org.continuouspoker.dealer.data;
 
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+/**
+ * The cards as {@link CardSet} indexes, dealt from a cursor and shuffled.
+ */
 public class Deck {
 
-    private static final Set<Card> ALL_EXISTING_CARDS;
+    private final int[] cards;
+    // null shuffles with the random of the thread shuffling the deck
+    private final RandomGenerator random;
+    private int next;
 
-    static {
-        final var cardSet = new HashSet<Card>();
+    /**
+     * A deck that deals the given cards in order, until it gets reshuffled.
+     */
+    public Deck(final List<Card> cards) {
+        this(cards.stream().mapToInt(CardSet::indexOf).toArray(), null);
+    }
 
-        for (final Suit suit : Suit.values()) {
-            for (final Rank rank : Rank.values()) {
-                cardSet.add(new Card(rank, suit));
-            }
-        }
+    /**
+     * A shuffled deck of all cards, shuffled with {@link ThreadLocalRandom}.
+     */
+    public Deck() {
+        this(CardSet.toIndexes(CardSet.FULL_DECK), null);
+        shuffle();
+    }
 
-        ALL_EXISTING_CARDS = Collections.unmodifiableSet(cardSet);
+    /**
+     * A shuffled deck of all cards.
+     *
+     * @param random shuffles the deck, only share the deck if it is thread-safe
+     */
+    public Deck(final RandomGenerator random) {
+        this(CardSet.toIndexes(CardSet.FULL_DECK), Objects.requireNonNull(random));
+        shuffle();
     }
 
-    @SuppressWarnings("PMD.LooseCoupling")
-    private final LinkedList<Card> cards;
+    private Deck(final int[] cards, final RandomGenerator random) {
+        this.cards = cards;
+        this.random = random;
+    }
 
-    public Deck(final List<Card> cards) {
-        this.cards = new LinkedList<>(cards);
+    /**
+     * Collects all cards and shuffles them, so the deck can be reused.
+     */
+    public final void shuffle() {
+        final RandomGenerator generator = random == null ? ThreadLocalRandom.current() : random;
+        for (int i = cards.length - 1; i > 0; i--) {
+            final int other = generator.nextInt(i + 1);
+            final int card = cards[i];
+            cards[i] = cards[other];
+            cards[other] = card;
+        }
+        next = 0;
     }
 
-    public Deck() {
-        cards = new LinkedList<>(ALL_EXISTING_CARDS);
-        Collections.shuffle(cards);
+    public long getRemainingCards() {
+        long remaining = CardSet.EMPTY;
+        for (int i = next; i < cards.length; i++) {
+            remaining |= 1L << cards[i];
+        }
+        return remaining;
     }
 
     public void burnCard() {
-        cards.pop();
+        pop();
     }
 
     public void dealCards(final List<? extends CardReceiver> receivers, final int count) {
         for (int i = 0; i < count; i++) {
             for (final CardReceiver receiver : receivers) {
-                final Card card = cards.pop();
-                receiver.takeCard(card);
+                receiver.takeCard(CardSet.toCard(pop()));
             }
         }
     }
@@ -66,4 +100,11 @@ public class Deck {
         dealCards(Collections.singletonList(receiver), count);
     }
 
+    private int pop() {
+        if (next == cards.length) {
+            throw new NoSuchElementException("No cards left in the deck");
+        }
+        return cards[next++];
+    }
+
 }
@@ -105,4 +105,9 @@ public class Player implements CardReceiver, Serializable {
     public void clearCards() {
         cards.clear();
     }
+
+    @JsonIgnore
+    public long getCardSet() {
+        return CardSet.of(cards);
+    }
 }
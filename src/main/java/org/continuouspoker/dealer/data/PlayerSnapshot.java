@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+/**
+ * Immutable view of a {@link Player} within a {@link TableSnapshot}.
+ */
+@Value
+public class PlayerSnapshot {
+
+    String name;
+    Status status;
+    int stack;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    List<Card> cards;
+    @JsonProperty("bet")
+    int currentBet;
+
+    /* package */ static PlayerSnapshot from(final Player player, final boolean withCards) {
+        return new PlayerSnapshot(player.getName(), player.getStatus(), player.getStack(),
+                withCards ? List.copyOf(player.getCards()) : List.of(), player.getCurrentBet());
+    }
+}
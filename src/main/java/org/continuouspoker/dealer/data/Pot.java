@@ -30,6 +30,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.continuouspoker.dealer.GameEvent;
 import org.continuouspoker.dealer.StepLogger;
 import org.continuouspoker.dealer.calculation.hands.Score;
 
@@ -56,7 +57,7 @@ public class Pot implements Serializable {
 
     public void pay(final Player winner) {
         pots.forEach(p -> log.info(p.toString()));
-        stepLogger.log("All pots go to " + winner.getName() + " with " + getTotalSize() + " chips in total.");
+        stepLogger.log(new GameEvent.PotCollected(GameEvent.now(), winner.getName(), getTotalSize()));
         pots.forEach(pot -> winner.addToStack(pot.getSize()));
         reset();
     }
@@ -87,22 +88,11 @@ public class Pot implements Serializable {
         final int split = potSize / winners.size();
         winners.forEach(p -> p.addToStack(split));
 
-        final String winnerString = winners.stream().map(Player::getName).collect(Collectors.joining(","));
-        log.info("Winners: {} ({} each) with a {}", winnerString, split, score.name());
+        final List<String> winnerNames = winners.stream().map(Player::getName).toList();
+        log.info("Winners: {} ({} each) with a {}", winnerNames, split, score.name());
 
-        if (moreThanOneWinner(winners)) {
-            stepLogger.log(
-                    String.format("%s of %s is split between %s (%s for each), for a '%s'", pot.getName(), potSize,
-                            winnerString, split, score.name()));
-        } else {
-            stepLogger.log(String.format("%s of %s goes to %s, for a '%s'", pot.getName(), potSize, winnerString,
-                    score.name()));
-        }
-
-    }
-
-    private static boolean moreThanOneWinner(final Collection<Player> winners) {
-        return winners.size() > 1;
+        stepLogger.log(new GameEvent.PotAwarded(GameEvent.now(), pot.getName(), potSize, winnerNames, split,
+                score.strength()));
     }
 
     public void collect(final List<Player> playersInPlayOrder) {
@@ -131,17 +121,21 @@ public class Pot implements Serializable {
                 remainingBet = addToPot(player, remainingBet, pot);
             }
             if (remainingBet > 0) {
-                final PotPart pot = new PotPart("Side pot " + pots.size());
-                pot.addPayee(player);
-                pot.add(remainingBet);
-                if (player.isAllIn()) {
-                    pot.setBetLimit(remainingBet);
-                }
-                pots.add(pot);
+                pots.add(createSidePot(player, remainingBet));
             }
         }
     }
 
+    private PotPart createSidePot(final Player player, final int bet) {
+        final PotPart pot = new PotPart("Side pot " + pots.size());
+        pot.addPayee(player);
+        pot.add(bet);
+        if (player.isAllIn()) {
+            pot.setBetLimit(bet);
+        }
+        return pot;
+    }
+
     private static int addToPot(final Player player, final int bet, final PotPart pot) {
         final int betLimit = pot.getBetLimit();
         pot.addPayee(player);
@@ -19,13 +19,13 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntPredicate;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.continuouspoker.dealer.calculation.hands.Score;
@@ -59,9 +59,19 @@ public class Table implements CardReceiver, Serializable {
         this.minimumBet = smallBlind * 2;
     }
 
+    /**
+     * Continues a tournament at the start of the given round.
+     */
+    public Table(final long tournamentId, final List<Player> players, final int smallBlind, final int round,
+            final int currentDealer) {
+        this(tournamentId, players, smallBlind);
+        this.round = round;
+        this.currentDealer = currentDealer;
+    }
+
     @JsonProperty("pot")
     public int getPotSize() {
-        return pot.getTotalSize();
+        return pot == null ? 0 : pot.getTotalSize();
     }
 
     @JsonProperty
@@ -117,6 +127,11 @@ public class Table implements CardReceiver, Serializable {
         communityCards.add(card);
     }
 
+    @JsonIgnore
+    public long getCommunityCardSet() {
+        return CardSet.of(communityCards);
+    }
+
     public void collectChips(final List<Player> playersInPlayOrder) {
         pot.collect(playersInPlayOrder);
     }
@@ -146,17 +161,21 @@ public class Table implements CardReceiver, Serializable {
         return round % players.size() * 2 == 0;
     }
 
-    public Table copyForActivePlayer() {
-        final Table clonedTable = SerializationUtils.clone(this);
-        final Player activePlayerObject = clonedTable.getPlayers().get(clonedTable.getActivePlayer());
+    public TableSnapshot snapshotForActivePlayer() {
+        return snapshot(seat -> seat == activePlayer);
+    }
+
+    public TableSnapshot snapshot() {
+        return snapshot(seat -> true);
+    }
 
-        final List<Player> players2 = clonedTable.getPlayers();
-        for (final Player p : players2) {
-            if (!p.equals(activePlayerObject)) {
-                p.clearCards();
-            }
+    private TableSnapshot snapshot(final IntPredicate showCards) {
+        final List<PlayerSnapshot> playerSnapshots = new ArrayList<>(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            playerSnapshots.add(PlayerSnapshot.from(players.get(i), showCards.test(i)));
         }
-        return clonedTable;
+        return new TableSnapshot(tournamentId, List.copyOf(communityCards), List.copyOf(playerSnapshots), round,
+                smallBlind, minimumBet, getMinimumRaise(), getPotSize(), activePlayer, currentDealer);
     }
 
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Value;
+
+/**
+ * Immutable view of a {@link Table} as one player sees it when asked for a bet.
+ * It shares the immutable cards of the table and only contains the hole cards of
+ * the active player.
+ */
+@Value
+@JsonPropertyOrder(alphabetic = true)
+public class TableSnapshot {
+
+    @JsonIgnore
+    long tournamentId;
+    List<Card> communityCards;
+    List<PlayerSnapshot> players;
+    int round;
+    int smallBlind;
+    int minimumBet;
+    int minimumRaise;
+    @JsonProperty("pot")
+    int potSize;
+    int activePlayer;
+    int currentDealer;
+
+}
@@ -16,6 +16,7 @@
 
 package org.continuouspoker.dealer.game;
 
+import org.continuouspoker.dealer.GameEvent;
 import org.continuouspoker.dealer.StepLogger;
 import org.continuouspoker.dealer.data.Player;
 import org.continuouspoker.dealer.data.Table;
@@ -23,8 +24,6 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class BetDecision {
-    private static final String ALL_IN_TEXT = "Player %s goes all in with %s.";
-
     private final StepLogger logger;
 
     /* package */ BetDecision(final StepLogger logger) {
@@ -56,7 +55,7 @@ public class BetDecision {
     private boolean playerCanPayIt(final Player player, final int bet) {
         if (player.isGoingAllIn(bet)) {
             player.bet(bet);
-            logger.log(ALL_IN_TEXT, player.getName(), player.getCurrentBet());
+            logger.log(new GameEvent.AllIn(GameEvent.now(), player.getName(), player.getCurrentBet()));
             return false;
         }
         return true;
@@ -64,7 +63,7 @@ public class BetDecision {
 
     private Action raise(final Player player, final int bet) {
         if (playerCanPayIt(player, bet)) {
-            logger.log("Player %s raises to %s.", player.getName(), bet);
+            logger.log(new GameEvent.Raise(GameEvent.now(), player.getName(), bet));
             player.bet(bet);
         }
         return Action.RAISE;
@@ -72,8 +71,7 @@ public class BetDecision {
 
     private Action call(final int minimumBet, final Player player) {
         if (playerCanPayIt(player, minimumBet)) {
-            logger.log("Player %s calls the bet of %s.", player.getName(),
-                    minimumBet);
+            logger.log(new GameEvent.Call(GameEvent.now(), player.getName(), minimumBet));
             player.bet(minimumBet);
         }
         return Action.CALL;
@@ -81,20 +79,20 @@ public class BetDecision {
 
     private Action bet(final Player player, final int bet) {
         if (playerCanPayIt(player, bet)) {
-            logger.log("Player %s bets %s.", player.getName(), bet);
+            logger.log(new GameEvent.Bet(GameEvent.now(), player.getName(), bet));
             player.bet(bet);
         }
         return Action.BET;
     }
 
     private Action fold(final Player player) {
-        logger.log("Player %s folds.", player.getName());
+        logger.log(new GameEvent.Fold(GameEvent.now(), player.getName()));
         player.fold();
         return Action.FOLD;
     }
 
     private Action check(final Player player) {
-        logger.log("Player %s checks.", player.getName());
+        logger.log(new GameEvent.Check(GameEvent.now(), player.getName()));
         return Action.CHECK;
     }
 
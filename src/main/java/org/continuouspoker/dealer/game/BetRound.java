@@ -18,8 +18,12 @@ package org.continuouspoker.dealer.game;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.continuouspoker.dealer.GameEvent;
 import org.continuouspoker.dealer.StepLogger;
 import org.continuouspoker.dealer.data.Player;
 import org.continuouspoker.dealer.data.Seats;
@@ -33,17 +37,35 @@ public class BetRound {
     private final List<Player> playersInPlayOrder;
     private final boolean isPreFlop;
     private final StepLogger logger;
+    // continues the round once a bet arrives
+    private final Executor executor;
+
+    private Player winner;
 
     public BetRound(final Table table, final List<Player> playersInPlayOrder, final boolean isPreFlop,
             final StepLogger logger) {
+        this(table, playersInPlayOrder, isPreFlop, logger, Runnable::run);
+    }
+
+    public BetRound(final Table table, final List<Player> playersInPlayOrder, final boolean isPreFlop,
+            final StepLogger logger, final Executor executor) {
         this.table = table;
         this.playersInPlayOrder = playersInPlayOrder;
         this.isPreFlop = isPreFlop;
         this.logger = logger;
+        this.executor = executor;
     }
 
     public Optional<Player> run() {
-        logger.log("Starting bet round.");
+        return Continuations.await(runAsync());
+    }
+
+    /**
+     * Runs the bet round as a continuation: the round goes on with the next player
+     * once a bet arrives, without blocking a thread while waiting for it.
+     */
+    public CompletionStage<Optional<Player>> runAsync() {
+        logger.log(new GameEvent.BetRoundStarted(GameEvent.now()));
         final Seats seats = new Seats(playersInPlayOrder);
         if (isPreFlop) {
             collectBlinds(table, seats);
@@ -51,59 +73,65 @@ public class BetRound {
         seats.setLastBetToCurrentPlayer();
         table.setMinimumBet(table.getSmallBlind() * 2);
 
-        while (seats.getNextPlayer() != null) {
-            if (seats.getCurrentPlayer().getStatus().equals(Status.ACTIVE)) {
-                table.setActivePlayer(seats.getCurrentPlayer());
-                // check for only one left -> he wins
-                if (onlyOneActivePlayerLeft(seats)) {
-                    // we have a winner
-                    logger.log("Ending bet round with winner: %s", seats.getCurrentPlayer().getName());
+        return Continuations.repeat(() -> nextTurn(seats)).thenApply(ignored -> {
+            logger.log(new GameEvent.BetRoundEnded(GameEvent.now(),
+                    winner == null ? null : winner.getName()));
+            return Optional.ofNullable(winner);
+        });
+    }
 
-                    return Optional.of(seats.getCurrentPlayer());
-                }
-                if (handleCurrentPlayer(seats)) {
-                    break;
-                }
-            } else if (seats.getLastBettingPlayer() == seats.getCurrentPlayer()) {
-                // everybody checked, end the round
-                break;
+    // returns whether the round ended
+    private CompletionStage<Boolean> nextTurn(final Seats seats) {
+        if (seats.getNextPlayer() == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (seats.getCurrentPlayer().getStatus().equals(Status.ACTIVE)) {
+            table.setActivePlayer(seats.getCurrentPlayer());
+            // check for only one left -> he wins
+            if (onlyOneActivePlayerLeft(seats)) {
+                // we have a winner
+                winner = seats.getCurrentPlayer();
+                return CompletableFuture.completedFuture(true);
             }
+            return handleCurrentPlayer(seats);
         }
-
-        logger.log("Ending bet round.");
-        return Optional.empty();
-
+        // everybody checked, end the round
+        return CompletableFuture.completedFuture(seats.getLastBettingPlayer() == seats.getCurrentPlayer());
     }
 
     private static boolean onlyOneActivePlayerLeft(final Seats seats) {
         return seats.getNumberOfActivePlayers() == 1;
     }
 
-    private boolean handleCurrentPlayer(final Seats seats) {
+    private CompletionStage<Boolean> handleCurrentPlayer(final Seats seats) {
         final Player currentPlayer = seats.getCurrentPlayer();
 
         if (currentPlayer.isAllIn()) {
-            return currentPlayer.equals(seats.getLastBettingPlayer());
+            return CompletableFuture.completedFuture(currentPlayer.equals(seats.getLastBettingPlayer()));
         }
 
         if (currentPlayer.equals(seats.getLastBettingPlayer())) {
             return handleLastBettingPlayer(seats, currentPlayer);
-        } else {
-            callPlayer(table, currentPlayer);
+        }
+        return callPlayer(table, currentPlayer).thenApply(action -> {
             if (currentPlayer.getCurrentBet() > seats.getLastBet()) {
                 table.setMinimumBet(currentPlayer.getCurrentBet());
                 seats.setLastBetToCurrentPlayer();
             }
-        }
-        return false;
+            return false;
+        });
     }
 
-    private boolean handleLastBettingPlayer(final Seats seats, final Player currentPlayer) {
-        if (seats.getLastBet() == 0 || isPreFlop && seats.getLastBet() == table.getSmallBlind() * 2
-                && seats.getLastBettingPlayer() != currentPlayer) {
-            // nobody bet / raised, and we are at the starting player again
-            // let him bet / raise or check
-            final Action action = callPlayer(table, currentPlayer);
+    private CompletionStage<Boolean> handleLastBettingPlayer(final Seats seats, final Player currentPlayer) {
+        final boolean nobodyRaised = seats.getLastBet() == 0
+                || isPreFlop && seats.getLastBet() == table.getSmallBlind() * 2
+                && seats.getLastBettingPlayer() != currentPlayer;
+        if (!nobodyRaised) {
+            return CompletableFuture.completedFuture(true);
+        }
+        // nobody bet / raised, and we are at the starting player again
+        // let him bet / raise or check
+        return callPlayer(table, currentPlayer).thenApply(action -> {
             if (action.equals(Action.CHECK)) {
                 return true;
             } else if (action.equals(Action.BET) || action.equals(Action.RAISE)) {
@@ -113,10 +141,8 @@ public class BetRound {
                     table.setMinimumBet(seats.getLastBet());
                 }
             }
-        } else {
-            return true;
-        }
-        return false;
+            return false;
+        });
     }
 
     private void collectBlinds(final Table table, final Seats seats) {
@@ -128,10 +154,8 @@ public class BetRound {
         final Player big = seats.getNextActivePlayer();
         big.bet(table.getSmallBlind() * 2);
 
-        if (big.isAllIn()) {
-            logger.log("Player %s goes all in for big blind with %s.", big.getName(), big.getCurrentBet());
-        } else {
-            logger.log("Player %s pays big blind of %s.", big.getName(), big.getCurrentBet());
+        logger.log(new GameEvent.BlindPosted(GameEvent.now(), big.getName(), big.getCurrentBet(), true, big.isAllIn()));
+        if (!big.isAllIn()) {
             log.info("{} pays big blind of {}", big.getName(), big.getCurrentBet());
         }
     }
@@ -140,17 +164,22 @@ public class BetRound {
         final Player small = seats.getCurrentPlayer();
         small.bet(table.getSmallBlind());
 
-        if (small.isAllIn()) {
-            logger.log("Player %s goes all in for small blind with %s.", small.getName(), small.getCurrentBet());
-        } else {
-            logger.log("Player %s pays small blind of %s.", small.getName(), small.getCurrentBet());
+        logger.log(new GameEvent.BlindPosted(GameEvent.now(), small.getName(), small.getCurrentBet(), false,
+                small.isAllIn()));
+        if (!small.isAllIn()) {
             log.info("{} pays small blind of {}", small.getName(), small.getCurrentBet());
         }
     }
 
-    private Action callPlayer(final Table table, final Player player) {
+    private CompletionStage<Action> callPlayer(final Table table, final Player player) {
         log.debug("Calling player {} with table {}", player.getName(), table);
-        int result = player.getActionProvider().requestBet(table.copyForActivePlayer(), logger);
+        final CompletionStage<Integer> bet = player.getActionProvider()
+                                                   .requestBetAsync(table.snapshotForActivePlayer(), logger);
+        return Continuations.resumeOn(bet, executor).thenApply(result -> applyBet(table, player, result));
+    }
+
+    private Action applyBet(final Table table, final Player player, final int bet) {
+        int result = bet;
         log.debug("Player {} returned bet of {}", player.getName(), result);
 
         if (result < player.getCurrentBet()) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.game;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Drives the games as chains of continuations, so a game waiting for a bet or
+ * a pause does not hold a thread.
+ */
+/* package */ final class Continuations {
+
+    private Continuations() {
+    }
+
+    /**
+     * Repeats the step until it returns true. Steps that complete right away are
+     * looped over instead of chained, so the stack does not grow with them.
+     */
+    /* package */ static CompletionStage<Void> repeat(final Supplier<? extends CompletionStage<Boolean>> step) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        repeat(step, done);
+        return done;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void repeat(final Supplier<? extends CompletionStage<Boolean>> step,
+            final CompletableFuture<Void> done) {
+        try {
+            CompletableFuture<Boolean> next = step.get().toCompletableFuture();
+            while (next.isDone()) {
+                if (next.join()) {
+                    done.complete(null);
+                    return;
+                }
+                next = step.get().toCompletableFuture();
+            }
+            next.whenComplete((finished, error) -> {
+                if (error != null) {
+                    done.completeExceptionally(unwrap(error));
+                } else if (finished) {
+                    done.complete(null);
+                } else {
+                    repeat(step, done);
+                }
+            });
+        } catch (final RuntimeException e) {
+            done.completeExceptionally(unwrap(e));
+        }
+    }
+
+    /**
+     * Continues on the executor once the stage completes, unless it is complete
+     * already. Bets are answered on the threads of the HTTP client, which must
+     * not play the rest of the round.
+     */
+    /* package */ static <T> CompletionStage<T> resumeOn(final CompletionStage<T> stage, final Executor executor) {
+        final CompletableFuture<T> future = stage.toCompletableFuture();
+        if (future.isDone()) {
+            return future;
+        }
+        return future.thenApplyAsync(Function.identity(), executor);
+    }
+
+    /**
+     * Completes after the given time on the executor, right away for no time.
+     */
+    /* package */ static CompletionStage<Void> pause(final Duration duration, final Executor executor) {
+        if (duration.isZero() || duration.isNegative()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { },
+                CompletableFuture.delayedExecutor(duration.toMillis(), TimeUnit.MILLISECONDS, executor));
+    }
+
+    /**
+     * Waits for the stage and rethrows its failure, for callers that own their
+     * thread like the simulator.
+     */
+    /* package */ static <T> T await(final CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (final CompletionException e) {
+            final Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -20,22 +20,40 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.continuouspoker.dealer.LogEntry;
 import org.continuouspoker.dealer.Team;
+import org.continuouspoker.dealer.calculation.EquityCalculator;
+import org.continuouspoker.dealer.data.TableSnapshot;
 import org.continuouspoker.dealer.persistence.GameDAO;
 
 @Slf4j
 @RequiredArgsConstructor
+@SuppressWarnings("PMD.TooManyFields")
 public class Game implements Runnable {
 
     private static final int TOURNAMENT_LIMIT = 5;
-    private final List<Team> teams = new ArrayList<>();
+    private static final int LOG_CAPACITY = 64 * 1024;
+    private static final Duration TURBO_SCORE_INTERVAL = Duration.ofSeconds(10);
+    private final List<Team> teams = new CopyOnWriteArrayList<>();
 
     @Getter
     @JsonIgnore
@@ -55,31 +73,231 @@ public class Game implements Runnable {
     @JsonIgnore
     private int tournamentId;
 
+    // turbo games play without pacing, a change applies from the next tournament
+    @Getter
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile boolean turbo;
+
+    @Getter
+    @JsonIgnore
+    private final Throughput throughput = new Throughput();
+
+    @Getter
+    @JsonIgnore
+    private final GameLog gameLog = new GameLog(LOG_CAPACITY);
+
+    @Setter
+    @JsonIgnore
+    private GameListener listener = GameListener.NONE;
+
+    // estimates the equity of the players in paced games, if set
+    @Setter
+    @JsonIgnore
+    private EquityCalculator equityCalculator;
+
+    // shuffles the decks of the tournaments, a game runs one tournament at a time
+    @Setter
+    @JsonIgnore
+    private RandomGenerator random;
+
+    // an interrupted tournament to continue with the next run
+    private TournamentState resumeFrom;
+
+    // set whenever a team joins or leaves, until the change got stored
+    private final AtomicBoolean teamsChanged = new AtomicBoolean();
+
+    // set while a tournament is played, a run that finds it set is skipped
+    private final AtomicBoolean playing = new AtomicBoolean();
+
+    // guards the state a new tournament starts from
+    private final Object startLock = new Object();
+
+    // set once the game stops, no further tournament starts
+    private boolean stopped;
+
+    // completes once the tournament being played ended
+    private CompletableFuture<Void> played = CompletableFuture.completedFuture(null);
+
+    // continues the tournaments after bets and pauses, a game without one plays
+    // on the calling thread
+    @Setter
+    @JsonIgnore
+    private Executor executor = Runnable::run;
+
+    // shared by the games of a dealer, a tournament only starts while a permit is
+    // free, if set
+    @Setter
+    @JsonIgnore
+    private Semaphore runningGames;
+
+    // turbo games start the next tournament as soon as one ended while this is
+    // true, instead of waiting for the next scheduled run
+    @Setter
+    @JsonIgnore
+    private BooleanSupplier scheduled = () -> false;
+
+    // turbo games store the score history at most once per interval
+    private final AtomicLong scoresStoredAt = new AtomicLong();
+
+    /**
+     * Starts the next tournament and returns once it waits for a bet or a pause.
+     */
     @Override
     public void run() {
+        final CompletableFuture<Void> start = new CompletableFuture<>();
+        synchronized (startLock) {
+            if (stopped || !playing.compareAndSet(false, true)) {
+                log.trace("Skipping run of game {}, the previous tournament is still being played", gameId);
+                return;
+            }
+            if (runningGames != null && !runningGames.tryAcquire()) {
+                log.debug("Skipping run of game {}, the limit of running games is reached", gameId);
+                playing.set(false);
+                return;
+            }
+            final Tournament tournament = createTournament();
+            played = start.thenCompose(ignored -> playTournament(tournament)).whenComplete((ignored, error) -> {
+                if (runningGames != null) {
+                    runningGames.release();
+                }
+                playing.set(false);
+                if (error != null) {
+                    log.error("Tournament of game {} failed", gameId, error);
+                } else if (turbo && scheduled.getAsBoolean()) {
+                    executor.execute(this::run);
+                }
+            });
+        }
+        start.complete(null);
+    }
+
+    /**
+     * Starts no further tournament and stops the one being played after its
+     * current round. The returned stage completes once it stopped.
+     */
+    public CompletionStage<Void> stop() {
+        synchronized (startLock) {
+            stopped = true;
+            if (!tournaments.isEmpty()) {
+                tournaments.get(tournaments.size() - 1).stop();
+            }
+            return played;
+        }
+    }
+
+    private CompletionStage<Void> playTournament(final Tournament tournament) {
+        return tournament.runAsync().thenRun(() -> {
+            if (!tournament.isCompleted()) {
+                return;
+            }
+            throughput.recordTournament(tournament.getLatestRound());
+
+            if (!turbo || System.nanoTime() - scoresStoredAt.get() >= TURBO_SCORE_INTERVAL.toNanos()) {
+                gameDAO.storeScores(this);
+                scoresStoredAt.set(System.nanoTime());
+            }
+            listener.scoreChanged(getScore());
+        });
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    private Tournament createTournament() {
+        final Duration pauseBetweenGameRounds = turbo ? Duration.ZERO : timeBetweenGameRounds;
+        final Duration pauseBetweenSteps = turbo ? Duration.ZERO : timeBetweenSteps;
 
-        final Tournament tournament = new Tournament(gameId, tournamentId++, teams, timeBetweenGameRounds,
-                timeBetweenSteps);
+        final Tournament tournament = new Tournament(gameId, tournamentId++, teams, pauseBetweenGameRounds,
+                pauseBetweenSteps);
+        tournament.setListener(recordingListener());
+        tournament.setResumeFrom(resumeFrom);
+        tournament.setRandom(random);
+        tournament.setExecutor(executor);
+        if (!turbo) {
+            tournament.setEquityCalculator(equityCalculator);
+        }
+        resumeFrom = null;
         tournaments.add(tournament);
         while (tournaments.size() > TOURNAMENT_LIMIT) {
             tournaments.remove(0);
         }
-        tournament.run();
+        return tournament;
+    }
+
+    // stores every log entry before passing it on, so listeners see its number
+    private GameListener recordingListener() {
+        return new GameListener() {
+            @Override
+            public void logged(final LogEntry entry) {
+                listener.logged(gameLog.append(entry));
+            }
+
+            @Override
+            public void tableChanged(final long tournamentId, final long roundId,
+                    final Supplier<TableSnapshot> table) {
+                listener.tableChanged(tournamentId, roundId, table);
+            }
+
+            @Override
+            public void roundPlayed(final long gameId, final GameRound round) {
+                listener.roundPlayed(gameId, round);
+            }
 
-        gameDAO.storeScores(this);
+            @Override
+            public void roundCompleted(final TournamentState state) {
+                listener.roundCompleted(state);
+            }
+
+            @Override
+            public void tournamentCompleted(final long gameId, final long tournamentId) {
+                listener.tournamentCompleted(gameId, tournamentId);
+            }
+        };
+    }
+
+    /**
+     * Lets the next run continue the given tournament.
+     */
+    public void resume(final TournamentState state) {
+        synchronized (startLock) {
+            resumeFrom = state;
+            tournamentId = (int) state.tournamentId();
+        }
+    }
+
+    public void setTurbo(final boolean turbo) {
+        this.turbo = turbo;
+        throughput.reset();
+        scoresStoredAt.set(System.nanoTime());
     }
 
     @JsonIgnore
     public Stream<LogEntry> getFullHistory() {
-        return List.copyOf(tournaments).stream().flatMap(Tournament::getHistory);
+        return gameLog.getEntries().stream();
     }
 
     public void addPlayer(final Team team) {
         teams.add(team);
+        teamsChanged.set(true);
     }
 
     public void removePlayer(final Team team) {
         teams.remove(team);
+        teamsChanged.set(true);
+    }
+
+    /**
+     * Returns whether teams joined or left since the last call.
+     */
+    public boolean takeTeamsChange() {
+        return teamsChanged.getAndSet(false);
+    }
+
+    public void markTeamsChanged() {
+        teamsChanged.set(true);
+    }
+
+    @JsonIgnore
+    public Map<String, Long> getScore() {
+        return teams.stream().collect(Collectors.toMap(Team::getName, Team::getScore, (first, second) -> second));
     }
 
     public List<Team> getTeams() {
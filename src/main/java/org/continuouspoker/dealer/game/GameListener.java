@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.game;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.continuouspoker.dealer.LogEntry;
+import org.continuouspoker.dealer.data.TableSnapshot;
+
+/**
+ * Gets notified about everything that happens in a game while it is played.
+ */
+public interface GameListener {
+
+    GameListener NONE = new GameListener() { };
+
+    default void logged(final LogEntry entry) {
+        // nothing to do by default
+    }
+
+    /**
+     * The table is only supplied on demand, so listeners without an audience don't
+     * pay for a snapshot.
+     */
+    default void tableChanged(final long tournamentId, final long roundId, final Supplier<TableSnapshot> table) {
+        // nothing to do by default
+    }
+
+    default void scoreChanged(final Map<String, Long> score) {
+        // nothing to do by default
+    }
+
+    /**
+     * A round was played to its end, before the next one starts.
+     */
+    default void roundPlayed(final long gameId, final GameRound round) {
+        // nothing to do by default
+    }
+
+    /**
+     * A round is over, the tournament could continue from the given state.
+     */
+    default void roundCompleted(final TournamentState state) {
+        // nothing to do by default
+    }
+
+    default void tournamentCompleted(final long gameId, final long tournamentId) {
+        // nothing to do by default
+    }
+
+    default GameListener andThen(final GameListener next) {
+        final GameListener first = this;
+        return new GameListener() {
+            @Override
+            public void logged(final LogEntry entry) {
+                first.logged(entry);
+                next.logged(entry);
+            }
+
+            @Override
+            public void tableChanged(final long tournamentId, final long roundId,
+                    final Supplier<TableSnapshot> table) {
+                first.tableChanged(tournamentId, roundId, table);
+                next.tableChanged(tournamentId, roundId, table);
+            }
+
+            @Override
+            public void scoreChanged(final Map<String, Long> score) {
+                first.scoreChanged(score);
+                next.scoreChanged(score);
+            }
+
+            @Override
+            public void roundPlayed(final long gameId, final GameRound round) {
+                first.roundPlayed(gameId, round);
+                next.roundPlayed(gameId, round);
+            }
+
+            @Override
+            public void roundCompleted(final TournamentState state) {
+                first.roundCompleted(state);
+                next.roundCompleted(state);
+            }
+
+            @Override
+            public void tournamentCompleted(final long gameId, final long tournamentId) {
+                first.tournamentCompleted(gameId, tournamentId);
+                next.tournamentCompleted(gameId, tournamentId);
+            }
+        };
+    }
+}
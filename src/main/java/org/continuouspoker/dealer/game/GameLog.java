@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.continuouspoker.dealer.LogEntry;
+
+/**
+ * Append-only log of a game. Every entry gets the next sequence number, so
+ * readers can continue where they left off. Entries are appended in time order.
+ * Once the capacity is reached, the oldest entries are dropped chunk by chunk.
+ */
+public class GameLog {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final int maxChunks;
+    private final List<LogEntry[]> chunks = new ArrayList<>();
+
+    // sequence number of the first entry in the oldest chunk
+    private long firstSequence = 1;
+    private long nextSequence = 1;
+
+    // first sequence number of every tournament, appended in one piece
+    private final NavigableMap<Long, Long> tournamentStarts = new TreeMap<>();
+    private final Object lock = new Object();
+
+    public GameLog(final int capacity) {
+        this.maxChunks = Math.max(1, (capacity + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    public LogEntry append(final LogEntry entry) {
+        synchronized (lock) {
+            final long sequence = nextSequence++;
+            final int offset = (int) ((sequence - 1) % CHUNK_SIZE);
+            if (offset == 0) {
+                if (chunks.size() == maxChunks) {
+                    dropOldestChunk();
+                }
+                chunks.add(new LogEntry[CHUNK_SIZE]);
+            }
+            final LogEntry stored = entry.withSequence(sequence);
+            chunks.get(chunks.size() - 1)[offset] = stored;
+
+            tournamentStarts.putIfAbsent(entry.getTournamentId(), sequence);
+            return stored;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} entries after the given sequence number.
+     */
+    public List<LogEntry> getEntriesAfter(final long sequence, final int limit) {
+        synchronized (lock) {
+            final long from = Math.max(sequence + 1, firstSequence);
+            return range(from, Math.min(nextSequence, from + Math.max(limit, 0)), entry -> true);
+        }
+    }
+
+    public List<LogEntry> getEntries() {
+        synchronized (lock) {
+            return range(firstSequence, nextSequence, entry -> true);
+        }
+    }
+
+    public List<LogEntry> getEntriesOfTournament(final long tournamentId) {
+        return getEntriesOfTournament(tournamentId, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the entries logged after {@code from} and before {@code until}, both as
+     * epoch nanos.
+     */
+    public List<LogEntry> getEntriesBetween(final long from, final long until) {
+        synchronized (lock) {
+            return between(firstSequence, nextSequence, from, until, entry -> true);
+        }
+    }
+
+    public List<LogEntry> getEntriesOfTournament(final long tournamentId, final long from,
+            final long until) {
+        synchronized (lock) {
+            final Long start = tournamentStarts.get(tournamentId);
+            if (start == null) {
+                return List.of();
+            }
+            return between(Math.max(start, firstSequence), endOfTournament(tournamentId), from, until,
+                    entry -> entry.getTournamentId() == tournamentId);
+        }
+    }
+
+    // the entries are in time order, so the bounds are found by binary search
+    private List<LogEntry> between(final long start, final long end, final long from, final long until,
+            final Predicate<LogEntry> filter) {
+        final long first = firstLoggedAfter(start, end, from);
+        final long last = until == Long.MIN_VALUE ? first : firstLoggedAfter(first, end, until - 1);
+        return range(first, last, filter);
+    }
+
+    private long firstLoggedAfter(final long start, final long end, final long timestamp) {
+        long low = start;
+        long high = end;
+        while (low < high) {
+            final long middle = (low + high) >>> 1;
+            if (get(middle).getEvent().timestamp() > timestamp) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private long endOfTournament(final long tournamentId) {
+        final Map.Entry<Long, Long> nextTournament = tournamentStarts.higherEntry(tournamentId);
+        return nextTournament == null ? nextSequence : nextTournament.getValue();
+    }
+
+    private List<LogEntry> range(final long from, final long until, final Predicate<LogEntry> filter) {
+        final long start = Math.max(from, firstSequence);
+        final List<LogEntry> result = new ArrayList<>((int) Math.max(until - start, 0));
+        for (long sequence = start; sequence < until; sequence++) {
+            final LogEntry entry = get(sequence);
+            if (filter.test(entry)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private LogEntry get(final long sequence) {
+        final long index = sequence - firstSequence;
+        return chunks.get((int) (index / CHUNK_SIZE))[(int) (index % CHUNK_SIZE)];
+    }
+
+    private void dropOldestChunk() {
+        chunks.remove(0);
+        firstSequence += CHUNK_SIZE;
+        // forget the tournaments that are gone completely
+        while (tournamentStarts.size() > 1) {
+            final Map.Entry<Long, Long> oldest = tournamentStarts.firstEntry();
+            if (tournamentStarts.higherEntry(oldest.getKey()).getValue() > firstSequence) {
+                break;
+            }
+            tournamentStarts.remove(oldest.getKey());
+        }
+    }
+}
@@ -17,32 +17,43 @@
 package org.continuouspoker.dealer.game;
 
 import java.time.Duration;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.apache.commons.lang3.SerializationUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.continuouspoker.dealer.GameEvent;
 import org.continuouspoker.dealer.GameRoundLogEntry;
+import org.continuouspoker.dealer.calculation.Equity;
+import org.continuouspoker.dealer.calculation.EquityCalculator;
 import org.continuouspoker.dealer.calculation.HandCalculator;
 import org.continuouspoker.dealer.calculation.hands.Score;
 import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
 import org.continuouspoker.dealer.data.Deck;
 import org.continuouspoker.dealer.data.Player;
 import org.continuouspoker.dealer.data.Pot;
 import org.continuouspoker.dealer.data.Status;
 import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.data.TableSnapshot;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
+@SuppressWarnings("PMD.ExcessiveImports")
 public class GameRound {
 
     private static final int NUMBER_OF_FLOP_CARDS = 3;
@@ -54,114 +65,194 @@ public class GameRound {
 
     private final List<Player> players;
 
-    @Getter
-    private Table table;
+    private final Table table;
 
     private final Duration timeBetweenSteps;
 
     private final List<GameRoundLogEntry> gamelog = new ArrayList<>();
 
+    @Setter
+    private Consumer<GameRoundLogEntry> stepListener = entry -> { };
+
+    // estimates the equity of the players on every street, if set
+    @Setter
+    private EquityCalculator equityCalculator;
+
+    // reshuffled for this round, so a tournament deals every round from one deck
+    @Setter
+    private Deck deck;
+
+    private final Map<GameEvent.Street, Map<String, Equity>> equities = new ConcurrentHashMap<>();
+
+    private boolean allInEquityCalculated;
+
+    // the chips paid to the winners at the end of the round
+    @Getter
+    private int paidPot;
+
+    private Duration showdownDuration;
+
+    // state of the table at the end of the round, kept as history
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile TableSnapshot finalTableState;
+
+    // continues the round after bets and pauses, plays on the calling thread if
+    // not set
+    @Setter
+    private Executor executor = Runnable::run;
+
+    // the round goes on without pausing between the steps while this is true
+    @Setter
+    private BooleanSupplier pausesSkipped = () -> false;
+
     public void run() {
-        playWithDeck(new Deck());
+        Continuations.await(runAsync());
+    }
+
+    /**
+     * Plays the round as a chain of continuations, the returned stage completes
+     * once the round ended.
+     */
+    public CompletionStage<Void> runAsync() {
+        if (deck == null) {
+            deck = new Deck();
+        } else {
+            deck.shuffle();
+        }
+        return playWithDeckAsync(deck);
     }
 
-    private void logStep(final String msg, final Object... values) {
-        gamelog.add(new GameRoundLogEntry(roundId, ZonedDateTime.now(), String.format(msg, values)));
+    private void logStep(final GameEvent event) {
+        final GameRoundLogEntry entry = new GameRoundLogEntry(roundId, event);
+        gamelog.add(entry);
+        stepListener.accept(entry);
     }
 
     protected void playWithDeck(final Deck deck) {
+        Continuations.await(playWithDeckAsync(deck));
+    }
+
+    private CompletionStage<Void> playWithDeckAsync(final Deck deck) {
         table.setPot(new Pot(this::logStep));
 
         final List<Player> playersInPlayOrder = table.getPlayersInPlayOrder();
         deck.dealCards(playersInPlayOrder, 2);
         deck.burnCard();
 
-        logStep("Starting round %s.", table.getRound());
-
-        try {
-            if (determineWinner(table, playersInPlayOrder, true)) {
-                return;
-            }
-
-            sleep();
+        logStep(new GameEvent.RoundStarted(GameEvent.now(), table.getRound()));
+        estimateEquity(table, playersInPlayOrder, GameEvent.Street.PREFLOP);
 
-            deal(table, deck, NUMBER_OF_FLOP_CARDS);
-            logFlop(table);
+        return CompletableFuture.completedFuture(null)
+                                .thenCompose(ignored -> playStreet(deck, playersInPlayOrder,
+                                        GameEvent.Street.PREFLOP))
+                                .whenComplete((ignored, error) -> endRound(playersInPlayOrder));
+    }
 
-            if (determineWinner(table, playersInPlayOrder, false)) {
-                return;
+    // bets on the street and goes on with the next one, until a player won or
+    // the hands are shown
+    private CompletionStage<Void> playStreet(final Deck deck, final List<Player> playersInPlayOrder,
+            final GameEvent.Street street) {
+        return determineWinner(table, playersInPlayOrder, street == GameEvent.Street.PREFLOP).thenCompose(won -> {
+            if (won) {
+                return CompletableFuture.completedFuture(null);
             }
-
-            sleep();
-
-            deal(table, deck, NUMBER_OF_TURN_CARDS);
-            logTurn(table);
-
-            if (determineWinner(table, playersInPlayOrder, false)) {
-                return;
+            if (street == GameEvent.Street.RIVER) {
+                return sleep().thenRun(() -> showdown(table, playersInPlayOrder));
             }
+            calculateAllInEquity(table, playersInPlayOrder, street);
+
+            final GameEvent.Street next = GameEvent.Street.values()[street.ordinal() + 1];
+            return sleep().thenCompose(ignored -> {
+                final int cards = numberOfCards(next);
+                deal(table, deck, cards);
+                logDealtCards(table, next, cards);
+                estimateEquity(table, playersInPlayOrder, next);
+                return playStreet(deck, playersInPlayOrder, next);
+            });
+        });
+    }
 
-            sleep();
-
-            deal(table, deck, NUMBER_OF_RIVER_CARDS);
-            logRiver(table);
-
-            if (determineWinner(table, playersInPlayOrder, false)) {
-                return;
-            }
+    private static int numberOfCards(final GameEvent.Street street) {
+        return switch (street) {
+            case FLOP -> NUMBER_OF_FLOP_CARDS;
+            case TURN -> NUMBER_OF_TURN_CARDS;
+            case RIVER -> NUMBER_OF_RIVER_CARDS;
+            default -> 0;
+        };
+    }
 
-            sleep();
+    private void endRound(final List<Player> playersInPlayOrder) {
+        logStep(new GameEvent.RoundEnded(GameEvent.now(), table.getRound()));
 
-            showdown(table, playersInPlayOrder);
+        checkPlayerState(playersInPlayOrder, false);
+        finalTableState = table.snapshot();
+        checkPlayerState(playersInPlayOrder, true);
 
-        } finally {
-            logStep("Ending round %s.", table.getRound());
+        clearCards(players);
+        table.resetForNextRound();
+    }
 
-            checkPlayerState(playersInPlayOrder, false);
-            final var clonedTable = SerializationUtils.clone(table);
-            checkPlayerState(playersInPlayOrder, true);
+    public TableSnapshot getTableState() {
+        final TableSnapshot state = finalTableState;
+        return state == null ? table.snapshot() : state;
+    }
 
-            clearCards(players);
-            table.resetForNextRound();
+    private CompletionStage<Void> sleep() {
+        return Continuations.pause(pausesSkipped.getAsBoolean() ? Duration.ZERO : timeBetweenSteps, executor);
+    }
 
-            // store last table state for history
-            this.table = clonedTable;
-        }
+    private void logDealtCards(final Table table, final GameEvent.Street street, final int cards) {
+        final List<Card> communityCards = table.getCommunityCards();
+        final long dealtCards = CardSet.of(communityCards.subList(communityCards.size() - cards,
+                communityCards.size()));
+        logStep(new GameEvent.CardsDealt(GameEvent.now(), street, dealtCards));
     }
 
-    private void sleep() {
-        try {
-            Thread.sleep(timeBetweenSteps.toMillis());
-        } catch (InterruptedException e) {
-            log.error("Got interrupted in sleep", e);
-            Thread.currentThread().interrupt();
+    private void estimateEquity(final Table table, final List<Player> playersInPlayOrder,
+            final GameEvent.Street street) {
+        final List<Player> contenders = getActivePlayerStream(playersInPlayOrder).toList();
+        if (equityCalculator == null || contenders.size() < 2) {
+            return;
         }
+        final long[] holeCards = contenders.stream().mapToLong(Player::getCardSet).toArray();
+        final EquityCalculator.Result result = equityCalculator.calculate(holeCards, table.getCommunityCardSet());
+
+        final Map<String, Equity> streetEquities = toMap(contenders, result);
+        equities.put(street, streetEquities);
+        logStep(new GameEvent.EquityEstimated(GameEvent.now(), street, streetEquities, result.samples()));
     }
 
-    private void logFlop(final Table table) {
-        final String dealtCards = table.getCommunityCards()
-                                       .stream()
-                                       .map(Card::toString)
-                                       .collect(Collectors.joining(", "));
-        logStep("Flop: %s", dealtCards);
+    // once nobody can bet anymore the rest of the round is decided by the board
+    // alone, so its odds are exact
+    private void calculateAllInEquity(final Table table, final List<Player> playersInPlayOrder,
+            final GameEvent.Street street) {
+        final List<Player> contenders = getActivePlayerStream(playersInPlayOrder).toList();
+        if (equityCalculator == null || allInEquityCalculated || contenders.size() < 2
+                || !everyoneIsAllIn(playersInPlayOrder)) {
+            return;
+        }
+        allInEquityCalculated = true;
+        final long[] holeCards = contenders.stream().mapToLong(Player::getCardSet).toArray();
+        final EquityCalculator.Result result = equityCalculator.calculateExact(holeCards,
+                table.getCommunityCardSet());
+        logStep(new GameEvent.AllInEquity(GameEvent.now(), street, toMap(contenders, result), result.samples()));
     }
 
-    private void logTurn(final Table table) {
-        final String dealtCards = table.getCommunityCards()
-                                       .stream()
-                                       .skip(NUMBER_OF_FLOP_CARDS)
-                                       .map(Card::toString)
-                                       .collect(Collectors.joining());
-        logStep("Turn: %s", dealtCards);
+    private static Map<String, Equity> toMap(final List<Player> contenders, final EquityCalculator.Result result) {
+        final Map<String, Equity> byName = new LinkedHashMap<>();
+        for (int i = 0; i < contenders.size(); i++) {
+            byName.put(contenders.get(i).getName(), result.equities().get(i));
+        }
+        return byName;
     }
 
-    private void logRiver(final Table table) {
-        final String dealtCards = table.getCommunityCards()
-                                       .stream()
-                                       .skip(NUMBER_OF_FLOP_CARDS + (long) NUMBER_OF_TURN_CARDS)
-                                       .map(Card::toString)
-                                       .collect(Collectors.joining());
-        logStep("River: %s", dealtCards);
+    /**
+     * The equity of the players on each street played so far, if it was estimated.
+     */
+    public Map<GameEvent.Street, Map<String, Equity>> getEquities() {
+        final Map<GameEvent.Street, Map<String, Equity>> result = new EnumMap<>(GameEvent.Street.class);
+        result.putAll(equities);
+        return result;
     }
 
     private void checkPlayerState(final List<Player> playersInPlayOrder, final boolean defaultToActive) {
@@ -174,34 +265,47 @@ public class GameRound {
         }
     }
 
-    private boolean determineWinner(final Table table, final List<Player> playersInPlayOrder, final boolean isPreFlop) {
-        if (!everyoneIsAllIn(playersInPlayOrder)) {
-            final Optional<Player> winningPlayer = new BetRound(table, playersInPlayOrder, isPreFlop,
-                    this::logStep).run();
+    private CompletionStage<Boolean> determineWinner(final Table table, final List<Player> playersInPlayOrder,
+            final boolean isPreFlop) {
+        if (everyoneIsAllIn(playersInPlayOrder)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final BetRound betRound = new BetRound(table, playersInPlayOrder, isPreFlop, this::logStep, executor);
+        return betRound.runAsync().thenApply(winningPlayer -> {
             table.collectChips(playersInPlayOrder);
             if (winningPlayer.isPresent()) {
                 final Player winner = winningPlayer.get();
+                paidPot = table.getPotSize();
                 table.payWinner(winner);
                 return true;
             }
-        }
-        return false;
+            return false;
+        });
     }
 
     private void showdown(final Table table, final List<Player> players) {
         final List<Player> playersStillActive = players.stream().filter(p -> p.getStatus() == Status.ACTIVE).toList();
 
+        final long start = System.nanoTime();
         final Map<Score, List<Player>> rankedPlayers = new HandCalculator().determineWinningHand(playersStillActive,
-                Collections.unmodifiableList(table.getCommunityCards()));
+                table.getCommunityCardSet());
+        showdownDuration = Duration.ofNanos(System.nanoTime() - start);
 
         rankedPlayers.values().stream().flatMap(Collection::stream).forEach(this::logPlayerCards);
 
+        paidPot = table.getPotSize();
         table.payWinners(rankedPlayers);
     }
 
+    /**
+     * The time it took to rank the hands, empty if there was no showdown.
+     */
+    public Optional<Duration> getShowdownDuration() {
+        return Optional.ofNullable(showdownDuration);
+    }
+
     private void logPlayerCards(final Player player) {
-        logStep("Player %s has %s.", player.getName(),
-                player.getCards().stream().map(Card::toString).collect(Collectors.joining(" and ")));
+        logStep(new GameEvent.CardsShown(GameEvent.now(), player.getName(), player.getCardSet()));
     }
 
     private boolean everyoneIsAllIn(final List<Player> playersInPlayOrder) {
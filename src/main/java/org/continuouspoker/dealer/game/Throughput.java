@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.game;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the tournaments and rounds a game played since the last reset, to show
+ * how fast the game runs.
+ */
+public class Throughput {
+
+    private long since = System.nanoTime();
+    private long tournaments;
+    private long rounds;
+    private final Object lock = new Object();
+
+    public void reset() {
+        synchronized (lock) {
+            since = System.nanoTime();
+            tournaments = 0;
+            rounds = 0;
+        }
+    }
+
+    public void recordTournament(final long playedRounds) {
+        synchronized (lock) {
+            tournaments++;
+            rounds += playedRounds;
+        }
+    }
+
+    public long getTournaments() {
+        synchronized (lock) {
+            return tournaments;
+        }
+    }
+
+    public long getRounds() {
+        synchronized (lock) {
+            return rounds;
+        }
+    }
+
+    public double getRoundsPerSecond() {
+        synchronized (lock) {
+            return rounds / elapsedSeconds();
+        }
+    }
+
+    public double getTournamentsPerMinute() {
+        synchronized (lock) {
+            return tournaments / elapsedSeconds() * TimeUnit.MINUTES.toSeconds(1);
+        }
+    }
+
+    private double elapsedSeconds() {
+        return Math.max(System.nanoTime() - since, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -17,20 +17,30 @@
 package org.continuouspoker.dealer.game;
 
 import java.time.Duration;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.continuouspoker.dealer.GameEvent;
+import org.continuouspoker.dealer.GameRoundLogEntry;
 import org.continuouspoker.dealer.LogEntry;
 import org.continuouspoker.dealer.Team;
+import org.continuouspoker.dealer.calculation.Equity;
+import org.continuouspoker.dealer.calculation.EquityCalculator;
+import org.continuouspoker.dealer.data.Deck;
 import org.continuouspoker.dealer.data.Player;
 import org.continuouspoker.dealer.data.Status;
 import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.data.TableSnapshot;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -47,42 +57,114 @@ public class Tournament {
 
     private final Duration timeBetweenGameRounds;
     private final Duration timeBetweenSteps;
-    private final List<LogEntry> gameLog = new ArrayList<>();
 
     private final List<GameRound> gameRounds = new ArrayList<>();
 
-    @SuppressWarnings({ "PMD.AvoidInstantiatingObjectsInLoops",
-                        "PMD.AvoidCatchingGenericException"
-    })
+    @Setter
+    private GameListener listener = GameListener.NONE;
+
+    // estimates the equity of the players in every round, if set
+    @Setter
+    private EquityCalculator equityCalculator;
+
+    // shuffles the deck, a fresh thread-local generator if not set
+    @Setter
+    private RandomGenerator random;
+
+    // continue an interrupted tournament instead of starting a new one
+    @Setter
+    private TournamentState resumeFrom;
+
+    // continues the tournament after bets and pauses, plays on the calling
+    // thread if not set
+    @Setter
+    private Executor executor = Runnable::run;
+
+    private long roundNumber;
+
+    // set once a winner got the points, a stopped tournament has none
+    @Getter
+    private boolean completed;
+
+    // set once the game stops, the tournament then ends after the current round
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile boolean stopping;
+
     public void run() {
-        try {
-            final List<Player> players = initPlayers();
-
-            final var table = new Table(tournamentId, players, START_SMALL_BLIND);
-
-            long roundNumber = 0;
-            while (isMoreThanOnePlayerLeft(players)) {
-                roundNumber++;
-                final GameRound gameRound = new GameRound(roundNumber, players, table, timeBetweenSteps);
-                gameRounds.add(gameRound);
-                gameRound.run();
-                sleep();
-            }
-            addWinnerPoints(players, roundNumber);
+        Continuations.await(runAsync());
+    }
 
-        } catch (final Exception e) {
+    /**
+     * Plays the rounds as a chain of continuations, so no thread waits for
+     * bets or pauses. The returned stage completes with the tournament.
+     */
+    public CompletionStage<Void> runAsync() {
+        return CompletableFuture.completedFuture(null).thenCompose(ignored -> playRounds()).exceptionally(e -> {
             log.error("Unexpected error in game", e);
+            return null;
+        });
+    }
+
+    private CompletionStage<Void> playRounds() {
+        final List<Player> players;
+        final Table table;
+        if (canResume()) {
+            log.info("Resuming tournament {} of game {} at round {}", tournamentId, gameId, resumeFrom.round());
+            players = resumePlayers();
+            table = new Table(tournamentId, players, resumeFrom.smallBlind(), (int) resumeFrom.round(),
+                    resumeFrom.currentDealer());
+        } else {
+            players = initPlayers();
+            table = new Table(tournamentId, players, START_SMALL_BLIND);
         }
+
+        final Deck deck = random == null ? new Deck() : new Deck(random);
+        roundNumber = table.getRound() - 1L;
+        return Continuations.repeat(() -> {
+            if (stopping || !isMoreThanOnePlayerLeft(players)) {
+                return CompletableFuture.completedFuture(true);
+            }
+            return playRound(players, table, deck).thenApply(ignored -> false);
+        }).thenRun(() -> {
+            if (isMoreThanOnePlayerLeft(players)) {
+                log.info("Stopped tournament {} of game {} after round {}", tournamentId, gameId, roundNumber);
+                return;
+            }
+            addWinnerPoints(players, roundNumber);
+            completed = true;
+            listener.tournamentCompleted(gameId, tournamentId);
+        });
     }
 
-    public Stream<LogEntry> getHistory() {
-        final Stream<LogEntry> roundLogs = List.copyOf(gameRounds).stream()
-                                                     .flatMap(s -> s.getHistory()
-                                                                    .map(e -> new LogEntry(e.timestamp(), gameId,
-                                                                            tournamentId, e.roundNumber(),
-                                                                            e.message())));
+    private CompletionStage<Void> playRound(final List<Player> players, final Table table, final Deck deck) {
+        roundNumber++;
+        final GameRound gameRound = new GameRound(roundNumber, players, table, timeBetweenSteps);
+        gameRound.setEquityCalculator(equityCalculator);
+        gameRound.setDeck(deck);
+        gameRound.setExecutor(executor);
+        gameRound.setPausesSkipped(() -> stopping);
+        gameRound.setStepListener(entry -> {
+            listener.logged(toLogEntry(entry));
+            listener.tableChanged(tournamentId, entry.roundNumber(), table::snapshot);
+        });
+        gameRounds.add(gameRound);
+        return gameRound.runAsync().thenCompose(ignored -> {
+            listener.roundPlayed(gameId, gameRound);
+            listener.roundCompleted(TournamentState.from(gameId, table));
+            return Continuations.pause(stopping ? Duration.ZERO : timeBetweenGameRounds, executor);
+        });
+    }
 
-        return Stream.concat(roundLogs, List.copyOf(gameLog).stream());
+    /**
+     * Ends the tournament after the current round without a winner, its last
+     * snapshot stays to resume it.
+     */
+    public void stop() {
+        stopping = true;
+    }
+
+    private LogEntry toLogEntry(final GameRoundLogEntry entry) {
+        return new LogEntry(entry.event(), gameId, tournamentId, entry.roundNumber());
     }
 
     private boolean isMoreThanOnePlayerLeft(final List<Player> players) {
@@ -92,11 +174,33 @@ public class Tournament {
     private void addWinnerPoints(final List<Player> players, final long roundNumber) {
         players.stream().filter(s -> !s.getStatus().equals(Status.OUT)).map(this::getTeam).forEach(team -> {
             team.addToScore(POINTS);
-            gameLog.add(new LogEntry(ZonedDateTime.now(), gameId, tournamentId, roundNumber,
-                    String.format("Player %s won the tournament!", team.getName())));
+            listener.logged(new LogEntry(new GameEvent.TournamentWon(GameEvent.now(), team.getName()), gameId,
+                    tournamentId, roundNumber));
         });
     }
 
+    private boolean canResume() {
+        if (resumeFrom == null) {
+            return false;
+        }
+        final boolean allTeamsPresent = resumeFrom.seats()
+                                                  .stream()
+                                                  .allMatch(seat -> teams.stream()
+                                                                         .anyMatch(t -> t.getName()
+                                                                                         .equals(seat.team())));
+        if (!allTeamsPresent) {
+            log.warn("Teams of tournament {} of game {} changed, starting over", tournamentId, gameId);
+        }
+        return allTeamsPresent;
+    }
+
+    private List<Player> resumePlayers() {
+        return resumeFrom.seats().stream().map(seat -> {
+            final Team team = teams.stream().filter(t -> t.getName().equals(seat.team())).findFirst().orElseThrow();
+            return new Player(team.getName(), seat.status(), seat.stack(), 0, team.getProvider());
+        }).toList();
+    }
+
     private List<Player> initPlayers() {
         return teams.stream()
                     .map(team -> new Player(team.getName(), Status.ACTIVE, START_STACK, 0, team.getProvider()))
@@ -110,24 +214,19 @@ public class Tournament {
                     .orElseThrow(IllegalStateException::new);
     }
 
-    private void sleep() {
-        try {
-            Thread.sleep(timeBetweenGameRounds.toMillis());
-        } catch (InterruptedException e) {
-            log.error("Got interrupted in sleep", e);
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    public Optional<Table> getLatestTableState() {
+    public Optional<TableSnapshot> getLatestTableState() {
         if (gameRounds.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.ofNullable(gameRounds.get(gameRounds.size() - 1).getTable());
+        return Optional.ofNullable(gameRounds.get(gameRounds.size() - 1).getTableState());
+    }
+
+    public Optional<TableSnapshot> getTableStateOfGameRound(final long roundId) {
+        return gameRounds.stream().filter(r -> r.getRoundId() == roundId).map(GameRound::getTableState).findFirst();
     }
 
-    public Optional<Table> getTableStateOfGameRound(final long roundId) {
-        return gameRounds.stream().filter(r -> r.getRoundId() == roundId).map(GameRound::getTable).findFirst();
+    public Optional<Map<GameEvent.Street, Map<String, Equity>>> getEquitiesOfGameRound(final long roundId) {
+        return gameRounds.stream().filter(r -> r.getRoundId() == roundId).findFirst().map(GameRound::getEquities);
     }
 
     public long getLatestRound() {
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.game;
+
+import java.util.List;
+
+import org.continuouspoker.dealer.data.Status;
+import org.continuouspoker.dealer.data.Table;
+
+/**
+ * Everything needed to continue a tournament between two rounds.
+ *
+ * @param round the next round to play
+ */
+public record TournamentState(long gameId, long tournamentId, long round, int smallBlind, int currentDealer,
+                              List<Seat> seats) {
+
+    public record Seat(String team, Status status, int stack) {
+    }
+
+    /* package */ static TournamentState from(final long gameId, final Table table) {
+        final List<Seat> seats = table.getPlayers()
+                                      .stream()
+                                      .map(p -> new Seat(p.getName(), p.getStatus(), p.getStack()))
+                                      .toList();
+        return new TournamentState(gameId, table.getTournamentId(), table.getRound(), table.getSmallBlind(),
+                table.getCurrentDealer(), seats);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.continuouspoker.dealer.game.GameListener;
+import org.continuouspoker.dealer.game.GameRound;
+
+/**
+ * Records the meters of the games and teams, and removes them again when a game
+ * or team is deleted.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class DealerMetrics {
+
+    public static final String GAME_TAG = "game";
+    public static final String TEAM_TAG = "team";
+
+    private static final Duration[] SHOWDOWN_BUCKETS = { Duration.ofNanos(1_000), Duration.ofNanos(2_500),
+            Duration.ofNanos(5_000), Duration.ofNanos(10_000), Duration.ofNanos(25_000), Duration.ofNanos(50_000),
+            Duration.ofNanos(100_000), Duration.ofNanos(250_000), Duration.ofNanos(1_000_000) };
+    private static final double[] POT_SIZE_BUCKETS = { 10, 20, 50, 100, 200, 500, 1000, 2000 };
+
+    @Getter
+    private final MeterRegistry registry;
+
+    /**
+     * Counts the rounds and tournaments of the game, with the showdown time and the
+     * pot size of every round.
+     */
+    public GameListener forGame(final long gameId) {
+        final String game = Long.toString(gameId);
+        final Counter rounds = Counter.builder("dealer.rounds").tag(GAME_TAG, game).register(registry);
+        final Counter tournaments = Counter.builder("dealer.tournaments").tag(GAME_TAG, game).register(registry);
+        final Timer showdown = Timer.builder("dealer.showdown")
+                                    .tag(GAME_TAG, game)
+                                    .serviceLevelObjectives(SHOWDOWN_BUCKETS)
+                                    .register(registry);
+        final DistributionSummary potSize = DistributionSummary.builder("dealer.pot.size")
+                                                               .tag(GAME_TAG, game)
+                                                               .serviceLevelObjectives(POT_SIZE_BUCKETS)
+                                                               .register(registry);
+        return new GameListener() {
+            @Override
+            public void roundPlayed(final long gameId, final GameRound round) {
+                rounds.increment();
+                potSize.record(round.getPaidPot());
+                round.getShowdownDuration().ifPresent(showdown::record);
+            }
+
+            @Override
+            public void tournamentCompleted(final long gameId, final long tournamentId) {
+                tournaments.increment();
+            }
+        };
+    }
+
+    public void removeGame(final long gameId) {
+        removeTagged(GAME_TAG, Long.toString(gameId));
+    }
+
+    public void removeTeam(final String teamName) {
+        removeTagged(TEAM_TAG, teamName);
+    }
+
+    private void removeTagged(final String key, final String value) {
+        Search.in(registry).tag(key, value).meters().forEach(registry::remove);
+    }
+}
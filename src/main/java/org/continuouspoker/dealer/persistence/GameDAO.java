@@ -17,13 +17,17 @@
 package org.continuouspoker.dealer.persistence;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
-import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
@@ -34,10 +38,31 @@ import org.continuouspoker.dealer.game.Game;
 public class GameDAO {
 
     private static final int SCORE_LIMIT = 100;
+    private static final String SCORE_HISTORY_QUERY = "select new org.continuouspoker.dealer.persistence.TeamScoreRow("
+            + "s.id, s.creationTimestamp, team.name, t.score) from scores s join s.teamScores t join t.team team "
+            + "where s.gameId = ?1 order by s.creationTimestamp desc, s.id desc";
 
+    /**
+     * Stores the given team memberships (by game id) and scores (by team id). The
+     * teams are loaded with one query, their updates are sent in JDBC batches when
+     * the transaction commits.
+     */
     @Transactional
-    public void storeGames(final Set<Game> games) {
-        games.stream().map(GameDAO::toGameBE).forEach(g -> g.persist());
+    public void storeChanges(final Map<Long, List<Long>> gameTeams, final Map<Long, Long> teamScores) {
+        final Set<Long> teamIds = new HashSet<>(teamScores.keySet());
+        gameTeams.values().forEach(teamIds::addAll);
+        final Map<Long, TeamBE> teams = teamIds.isEmpty()
+                ? Map.of()
+                : TeamBE.<TeamBE>list("id in ?1", teamIds).stream().collect(Collectors.toMap(t -> t.id, t -> t));
+
+        teamScores.forEach((teamId, score) -> Optional.ofNullable(teams.get(teamId))
+                                                      .ifPresent(team -> team.setScore(score)));
+        gameTeams.forEach((gameId, members) -> GameBE.<GameBE>findByIdOptional(gameId)
+                                                     .ifPresent(game -> game.setTeams(select(teams, members))));
+    }
+
+    private static List<TeamBE> select(final Map<Long, TeamBE> teams, final List<Long> teamIds) {
+        return teamIds.stream().map(teams::get).filter(Objects::nonNull).collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Transactional
@@ -91,15 +116,62 @@ public class GameDAO {
     }
 
     private TeamScoreRecordBE storeScore(final Team team) {
-        final TeamScoreRecordBE score = new TeamScoreRecordBE(toTeamBE(team), team.getScore());
+        final TeamBE teamBE = TeamBE.getEntityManager().getReference(TeamBE.class, team.getTeamId());
+        final TeamScoreRecordBE score = new TeamScoreRecordBE(teamBE, team.getScore());
         score.persist();
         return score;
     }
 
-    public List<ScoreRecordBE> loadScores(final long gameId) {
-        final PanacheQuery<PanacheEntityBase> query = ScoreRecordBE.find("gameId",
-                Sort.by("creationTimestamp", Sort.Direction.Descending), gameId);
-        query.range(0, SCORE_LIMIT);
-        return query.list();
+    /**
+     * Returns the score records created in the given period, by game and time.
+     */
+    public List<ScoreStamp> loadScoreStamps(final Instant from, final Instant olderThan) {
+        return ScoreRecordBE.getEntityManager()
+                            .createQuery("select new org.continuouspoker.dealer.persistence.ScoreStamp(s.id, s.gameId, "
+                                    + "s.creationTimestamp) from scores s where s.creationTimestamp >= ?1 "
+                                    + "and s.creationTimestamp < ?2 order by s.gameId, s.creationTimestamp",
+                                    ScoreStamp.class)
+                            .setParameter(1, from)
+                            .setParameter(2, olderThan)
+                            .getResultList();
+    }
+
+    @Transactional
+    public void deleteScores(final List<Long> scoreIds) {
+        final List<ScoreRecordBE> records = ScoreRecordBE.<ScoreRecordBE>find(
+                "select s from scores s left join fetch s.teamScores where s.id in ?1", scoreIds).list();
+        for (final ScoreRecordBE scoreRecord : records) {
+            final List<TeamScoreRecordBE> teamScores = List.copyOf(scoreRecord.getTeamScores());
+            scoreRecord.delete();
+            teamScores.forEach(TeamScoreRecordBE::delete);
+        }
+    }
+
+    /**
+     * Returns the team scores of the latest score records of a game, newest first.
+     * The rows are read with a single query and only as far as needed.
+     */
+    public List<TeamScoreRow> loadScoreHistory(final long gameId) {
+        final List<TeamScoreRow> rows = new ArrayList<>();
+        try (Stream<TeamScoreRow> results = ScoreRecordBE.getEntityManager()
+                                                         .createQuery(SCORE_HISTORY_QUERY, TeamScoreRow.class)
+                                                         .setParameter(1, gameId)
+                                                         .getResultStream()) {
+            final Iterator<TeamScoreRow> iterator = results.iterator();
+            long currentRecord = -1;
+            int records = 0;
+            while (iterator.hasNext()) {
+                final TeamScoreRow row = iterator.next();
+                if (row.recordId() != currentRecord) {
+                    records++;
+                    if (records > SCORE_LIMIT) {
+                        break;
+                    }
+                    currentRecord = row.recordId();
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
     }
 }
@@ -20,13 +20,16 @@ import java.util.Set;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity(name = "scores")
+@Table(indexes = @Index(name = "scores_game_created", columnList = "gameId, creationTimestamp"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
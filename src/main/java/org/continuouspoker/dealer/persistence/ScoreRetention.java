@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Keeps the score history from growing forever: recent records are kept as they
+ * are, older ones are thinned out to one per minute and later to one per hour.
+ * Scores are totals, so the latest record of a bucket stands for all of it.
+ * Every run only looks at the records that crossed a cutoff since the last run.
+ */
+@Slf4j
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ScoreRetention {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+    private static final Duration HOUR = Duration.ofHours(1);
+    // records deleted in one transaction
+    /* package */ static final int DELETE_PAGE_SIZE = 500;
+
+    // records younger than this are kept with full resolution
+    @ConfigProperty(name = "score.retention.full-resolution", defaultValue = "PT1H")
+    /* package */ Duration fullResolution;
+
+    // records younger than this are kept once per minute, older ones once per hour
+    @ConfigProperty(name = "score.retention.minute-resolution", defaultValue = "P1D")
+    /* package */ Duration minuteResolution;
+
+    private final GameDAO dao;
+
+    // the cutoffs of the previous run, older records are thinned out already
+    private Instant minutesThinnedUntil = Instant.EPOCH;
+    private Instant hoursThinnedUntil = Instant.EPOCH;
+
+    @Scheduled(delayed = "1m", every = "10m", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    /* package */ void downsample() {
+        downsample(Instant.now());
+    }
+
+    /* package */ void downsample(final Instant now) {
+        final Instant minuteCutoff = now.minus(fullResolution);
+        final Instant hourCutoff = now.minus(minuteResolution);
+        final int removed = downsample(minutesThinnedUntil, minuteCutoff, MINUTE) + downsample(hoursThinnedUntil,
+                hourCutoff, HOUR);
+        minutesThinnedUntil = minuteCutoff;
+        hoursThinnedUntil = hourCutoff;
+        if (removed > 0) {
+            log.info("Removed {} score records while downsampling the score history", removed);
+        }
+    }
+
+    private int downsample(final Instant thinnedUntil, final Instant olderThan, final Duration bucket) {
+        // the bucket of the previous cutoff may hold records from before and after it
+        final long bucketMillis = bucket.toMillis();
+        final Instant from = Instant.ofEpochMilli(thinnedUntil.toEpochMilli() / bucketMillis * bucketMillis);
+        final List<Long> redundant = selectRedundant(dao.loadScoreStamps(from, olderThan), bucket);
+        for (int start = 0; start < redundant.size(); start += DELETE_PAGE_SIZE) {
+            dao.deleteScores(redundant.subList(start, Math.min(start + DELETE_PAGE_SIZE, redundant.size())));
+        }
+        return redundant.size();
+    }
+
+    /**
+     * Returns the ids of all records but the latest one per game and bucket.
+     *
+     * @param stamps ordered by game and creation time
+     */
+    /* package */ static List<Long> selectRedundant(final List<ScoreStamp> stamps, final Duration bucket) {
+        final long bucketMillis = bucket.toMillis();
+        final List<Long> redundant = new ArrayList<>();
+        for (int i = 0; i < stamps.size() - 1; i++) {
+            final ScoreStamp current = stamps.get(i);
+            final ScoreStamp next = stamps.get(i + 1);
+            if (current.gameId() == next.gameId()
+                    && current.creationTimestamp().toEpochMilli() / bucketMillis
+                    == next.creationTimestamp().toEpochMilli() / bucketMillis) {
+                redundant.add(current.recordId());
+            }
+        }
+        return redundant;
+    }
+}
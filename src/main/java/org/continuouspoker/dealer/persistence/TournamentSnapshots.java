@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.continuouspoker.dealer.game.GameListener;
+import org.continuouspoker.dealer.game.TournamentState;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Keeps the state of running tournaments on disk, one small file per game, so a
+ * restarted dealer can continue them at the last completed round. Only the
+ * latest state is written, at most every few seconds.
+ */
+@Slf4j
+@ApplicationScoped
+@RequiredArgsConstructor
+public class TournamentSnapshots implements GameListener {
+
+    private static final String PREFIX = "game-";
+    private static final String SUFFIX = ".json";
+    private static final Duration[] FLUSH_BUCKETS = { Duration.ofMillis(1), Duration.ofNanos(2_500_000),
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500) };
+
+    @ConfigProperty(name = "tournament.snapshot.directory")
+    /* package */ Path directory;
+
+    private final ObjectMapper mapper;
+    private final MeterRegistry registry;
+
+    private final Map<Long, TournamentState> pending = new HashMap<>();
+    private final Set<Long> completed = new HashSet<>();
+    // guards the pending and completed games
+    private final Object lock = new Object();
+    private final Object writeLock = new Object();
+
+    @Override
+    public void roundCompleted(final TournamentState state) {
+        synchronized (lock) {
+            pending.put(state.gameId(), state);
+            completed.remove(state.gameId());
+        }
+    }
+
+    @Override
+    public void tournamentCompleted(final long gameId, final long tournamentId) {
+        discard(gameId);
+    }
+
+    /**
+     * Forgets the snapshot of the given game with the next flush.
+     */
+    public void discard(final long gameId) {
+        synchronized (lock) {
+            pending.remove(gameId);
+            completed.add(gameId);
+        }
+    }
+
+    /**
+     * Writes the pending snapshots and deletes the ones of completed games.
+     */
+    @PreDestroy
+    @Scheduled(delayed = "5s", every = "5s", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void flush() {
+        synchronized (writeLock) {
+            final Map<Long, TournamentState> states;
+            final Set<Long> deletions;
+            synchronized (lock) {
+                states = new HashMap<>(pending);
+                deletions = new HashSet<>(completed);
+                pending.clear();
+                completed.clear();
+            }
+            final long start = System.nanoTime();
+            try {
+                if (!states.isEmpty()) {
+                    Files.createDirectories(directory);
+                }
+                for (final TournamentState state : states.values()) {
+                    write(state);
+                }
+                for (final long gameId : deletions) {
+                    Files.deleteIfExists(fileOf(gameId));
+                }
+            } catch (final IOException e) {
+                log.error("Could not write tournament snapshots to {}", directory, e);
+            }
+            if (!states.isEmpty() || !deletions.isEmpty()) {
+                Timer.builder("dealer.flush")
+                     .tag("store", "snapshots")
+                     .serviceLevelObjectives(FLUSH_BUCKETS)
+                     .register(registry)
+                     .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // written to a temporary file first, so a crash never leaves a half written
+    // snapshot behind
+    private void write(final TournamentState state) throws IOException {
+        final Path temporary = directory.resolve(PREFIX + state.gameId() + SUFFIX + ".tmp");
+        mapper.writeValue(temporary.toFile(), state);
+        Files.move(temporary, fileOf(state.gameId()), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path fileOf(final long gameId) {
+        return directory.resolve(PREFIX + gameId + SUFFIX);
+    }
+
+    /**
+     * Reads all snapshots, by game id. Unreadable snapshots are skipped.
+     */
+    public Map<Long, TournamentState> load() {
+        final Map<Long, TournamentState> states = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return states;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.getFileName().toString().startsWith(PREFIX))
+                 .filter(f -> f.getFileName().toString().endsWith(SUFFIX))
+                 .forEach(f -> {
+                     try {
+                         final TournamentState state = mapper.readValue(f.toFile(), TournamentState.class);
+                         states.put(state.gameId(), state);
+                     } catch (final IOException e) {
+                         log.warn("Skipping unreadable tournament snapshot {}", f, e);
+                     }
+                 });
+        } catch (final IOException e) {
+            log.error("Could not read tournament snapshots from {}", directory, e);
+        }
+        return states;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.simulation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.continuouspoker.dealer.ActionProvider;
+import org.continuouspoker.dealer.StepLogger;
+import org.continuouspoker.dealer.data.PlayerSnapshot;
+import org.continuouspoker.dealer.data.TableSnapshot;
+
+/**
+ * Simple in-process players for the {@link Simulator}. They only look at the
+ * table they get, so one instance can play on many tables at the same time.
+ */
+public enum LocalBot implements ActionProvider {
+
+    /** Checks if possible and folds otherwise. */
+    FOLD {
+        @Override
+        public int requestBet(final TableSnapshot table, final StepLogger logger) {
+            return 0;
+        }
+    },
+    /** Always calls the current bet. */
+    CALL {
+        @Override
+        public int requestBet(final TableSnapshot table, final StepLogger logger) {
+            return table.getMinimumBet();
+        }
+    },
+    /** Always raises by the minimum amount. */
+    RAISE {
+        @Override
+        public int requestBet(final TableSnapshot table, final StepLogger logger) {
+            return table.getMinimumRaise();
+        }
+    },
+    /** Always goes all in. */
+    ALL_IN {
+        @Override
+        public int requestBet(final TableSnapshot table, final StepLogger logger) {
+            return activePlayer(table).getStack();
+        }
+    },
+    /** Folds, calls or raises at random. */
+    RANDOM {
+        @Override
+        public int requestBet(final TableSnapshot table, final StepLogger logger) {
+            final LocalBot[] choices = { FOLD, CALL, RAISE };
+            return choices[ThreadLocalRandom.current().nextInt(choices.length)].requestBet(table, logger);
+        }
+    };
+
+    private static PlayerSnapshot activePlayer(final TableSnapshot table) {
+        return table.getPlayers().get(table.getActivePlayer());
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.simulation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a {@link Simulator} run: how many tournaments and rounds were
+ * played, and how often each bot won.
+ */
+public record SimulationResult(long tournaments, long rounds, Map<String, Long> wins, Duration duration) {
+
+    public double winRate(final String bot) {
+        return tournaments == 0 ? 0 : (double) wins.getOrDefault(bot, 0L) / tournaments;
+    }
+
+    public double tournamentsPerSecond() {
+        return tournaments / seconds();
+    }
+
+    public double roundsPerSecond() {
+        return rounds / seconds();
+    }
+
+    private double seconds() {
+        return Math.max(duration.toNanos(), 1) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
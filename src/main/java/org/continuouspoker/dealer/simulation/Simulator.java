@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.simulation;
+
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import lombok.RequiredArgsConstructor;
+import org.continuouspoker.dealer.ActionProvider;
+import org.continuouspoker.dealer.Team;
+import org.continuouspoker.dealer.game.Tournament;
+
+/**
+ * Plays tournaments with in-process bots, without Quarkus, HTTP or pacing. Every
+ * tournament gets its own teams and table, so the tournaments run in parallel on
+ * all cores. The README shows how to run it.
+ */
+@RequiredArgsConstructor
+public class Simulator {
+
+    private static final int DEFAULT_TOURNAMENTS = 1000;
+
+    private final Map<String, ActionProvider> bots;
+
+    // the local bots hold nothing to close
+    @SuppressWarnings({ "PMD.SystemPrintln", "PMD.CloseResource" })
+    public static void main(final String... args) {
+        final int tournaments = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TOURNAMENTS;
+        final Map<String, ActionProvider> bots = new LinkedHashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            bots.put(args[i] + "-" + i, LocalBot.valueOf(args[i]));
+        }
+        if (bots.isEmpty()) {
+            for (final LocalBot bot : LocalBot.values()) {
+                bots.put(bot.name(), bot);
+            }
+        }
+
+        final SimulationResult result = new Simulator(bots).run(tournaments);
+
+        System.out.printf("%s tournaments, %s rounds in %s ms (%.1f tournaments/s, %.1f rounds/s)%n",
+                result.tournaments(), result.rounds(), result.duration().toMillis(), result.tournamentsPerSecond(),
+                result.roundsPerSecond());
+        final NumberFormat percent = NumberFormat.getPercentInstance(Locale.ROOT);
+        percent.setMinimumFractionDigits(2);
+        bots.keySet()
+            .forEach(bot -> System.out.printf("%-12s %8s wins %7s%n", bot, result.wins().getOrDefault(bot, 0L),
+                    percent.format(result.winRate(bot))));
+    }
+
+    public SimulationResult run(final int tournaments) {
+        final long start = System.nanoTime();
+        final List<TournamentOutcome> outcomes = IntStream.range(0, tournaments)
+                                                          .parallel()
+                                                          .mapToObj(this::playTournament)
+                                                          .toList();
+        final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        final Map<String, Long> wins = outcomes.stream()
+                                               .flatMap(o -> o.winners().stream())
+                                               .collect(Collectors.groupingBy(name -> name, TreeMap::new,
+                                                       Collectors.counting()));
+        final long rounds = outcomes.stream().mapToLong(TournamentOutcome::rounds).sum();
+        return new SimulationResult(tournaments, rounds, wins, duration);
+    }
+
+    private TournamentOutcome playTournament(final int tournamentId) {
+        final List<Team> teams = new ArrayList<>();
+        long teamId = 0;
+        for (final Map.Entry<String, ActionProvider> bot : bots.entrySet()) {
+            teams.add(new Team(teamId++, bot.getKey(), bot.getValue()));
+        }
+        // rotate the seats, so no bot always starts as the dealer
+        Collections.rotate(teams, tournamentId % teams.size());
+
+        final Tournament tournament = new Tournament(0, tournamentId, teams, Duration.ZERO, Duration.ZERO);
+        tournament.run();
+
+        final List<String> winners = teams.stream().filter(t -> t.getScore() > 0).map(Team::getName).toList();
+        return new TournamentOutcome(tournament.getLatestRound(), winners);
+    }
+
+    private record TournamentOutcome(long rounds, List<String> winners) {
+    }
+}
@@ -104,6 +104,34 @@ Vue.createApp({
             .catch(error => {
                 console.error('Error fetching data:', error);
             });
+            this.fetchThroughput(gameId);
+        },
+        fetchThroughput(gameId) {
+            fetch(`/games/${gameId}/throughput`)
+            .then(response => response.json())
+            .then(response => {
+                if (this.selectedGame.gameId === gameId) {
+                    this.selectedGame.throughput = response;
+                }
+            })
+            .catch(error => {
+                console.error('Error fetching data:', error);
+            });
+        },
+        toggleTurbo(game) {
+            fetch(`/games/manage/${game.gameId}/turbo?enabled=${!game.turbo}`, {
+                method: 'PUT'
+            })
+            .then(response => {
+                if (response.ok) {
+                    this.loadGames();
+                } else {
+                    console.error('Error switching turbo mode:', response.statusText);
+                }
+            })
+            .catch(error => {
+                console.error('Error switching turbo mode:', error);
+            });
         },
         triggerStatus(gameId) {
             fetch(`/games/manage/${gameId}`, {
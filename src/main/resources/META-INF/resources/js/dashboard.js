@@ -13,6 +13,8 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+const SCORE_HISTORY_INTERVAL = 5000;
+
 Vue.createApp({
     data() {
         return {
@@ -25,6 +27,9 @@ Vue.createApp({
             table: {players: [], communityCards: []},
             gameHistory: null,      //Object for whole history
             displayedHistory: null, //Object for currently displayed history
+            lastSequence: 0,        //Sequence of the latest log entry in the history
+            pendingEntries: null,   //Log entries pushed while the missing ones are loaded
+            scoreHistoryTimer: null, //Pending reload of the score history
             isDarkMode: false
         }
     },
@@ -38,8 +43,13 @@ Vue.createApp({
             this.applyTheme();
         }
 
-        this.update();
-        this.timer = setInterval(this.update, 1000);
+        this.connect();
+    },
+
+    watch: {
+        gameId() {
+            this.connect();
+        }
     },
 
     beforeDestroy() {
@@ -145,52 +155,115 @@ Vue.createApp({
             }
         },
 
+        connect() {
+            this.cancelAutoUpdate();
+            if (this.gameId === -1) {
+                return;
+            }
+            this.gameHistory = null;
+            this.lastSequence = 0;
+            // load the current state once, the game then pushes every change as it happens
+            this.events = new EventSource("/games/" + this.gameId + "/events");
+            this.events.onopen = () => this.update();
+            this.events.addEventListener("log", event => this.addLogEntry(JSON.parse(event.data)));
+            this.events.addEventListener("table", event => {
+                const state = JSON.parse(event.data);
+                if (this.tournamentId == state.tournamentId && (this.roundId == null || this.roundId == state.roundId)) {
+                    this.table = state.table;
+                }
+            });
+            this.events.addEventListener("score", event => {
+                this.setScore(JSON.parse(event.data));
+                this.scheduleScoreHistory();
+            });
+        },
+
+        // loads the log entries not seen yet, the whole log on the first call
+        loadLog() {
+            this.pendingEntries = [];
+            axios
+                .get("/games/" + this.gameId + "/log", {params: {after: this.lastSequence}})
+                .then(response => {
+                    const pending = this.pendingEntries;
+                    this.pendingEntries = null;
+                    if (this.gameHistory == null) {
+                        this.gameHistory = {};
+                    }
+                    response.data.concat(pending).forEach(entry => this.addLogEntry(entry));
+                    if (!this.gameHistory[this.tournamentId]) {
+                        this.tournamentId = null;
+                        this.roundId = null;
+                    }
+                });
+        },
+
+        addLogEntry(entry) {
+            if (this.pendingEntries != null) {
+                this.pendingEntries.push(entry);
+                return;
+            }
+            if (this.gameHistory == null || entry.sequence <= this.lastSequence) {
+                return;
+            }
+            this.lastSequence = entry.sequence;
+            const tournament = this.gameHistory[entry.tournamentId] || (this.gameHistory[entry.tournamentId] = {});
+            const round = tournament[entry.roundId] || (tournament[entry.roundId] = []);
+            round.push(entry.message);
+        },
+
+        setScore(score) {
+            let sortable = [];
+            for (var team in score) {
+                sortable.push([team, score[team]]);
+            }
+            sortable.sort(function (a, b) {
+                return b[1] - a[1];
+            });
+            this.score = sortable;
+        },
+
+        // turbo games change the score many times a second, the history is reloaded
+        // at most once per interval
+        scheduleScoreHistory() {
+            if (this.scoreHistoryTimer == null) {
+                this.scoreHistoryTimer = setTimeout(() => {
+                    this.scoreHistoryTimer = null;
+                    this.loadScoreHistory();
+                }, SCORE_HISTORY_INTERVAL);
+            }
+        },
+
+        loadScoreHistory() {
+            axios
+                .get("/games/" + this.gameId + "/scoreHistory")
+                .then(response => {
+                    this.scoreHistory = response.data;
+                    let chartData = [];
+                    for (const [key, value] of Object.entries(this.scoreHistory)) {
+                        chartData.push({data: value.reverse(), label: key})
+                    }
+                    if (this.scoreChart != null) {
+                        this.scoreChart.data.datasets = chartData;
+                        this.scoreChart.update('none');
+                    }
+                });
+        },
+
         update: function () {
             // Simple GET request using fetch
             if (this.gameId !== -1) {
-                if (this.tournament == null) {
-                    axios
-                        .get("/games/" + this.gameId + "/scoreHistory")
-                        .then(response => {
-                            this.scoreHistory = response.data;
-                            let chartData = [];
-                            for (const [key, value] of Object.entries(this.scoreHistory)) {
-                                chartData.push({data: value.reverse(), label: key})
-                            }
-                            if (this.scoreChart != null) {
-                                this.scoreChart.data.datasets = chartData;
-                                this.scoreChart.update('none');
-                            }
-                        });
-                }
+                this.loadScoreHistory();
 
                 axios
                     .get("/games/" + this.gameId + "/score")
-                    .then(response => {
-                        let sortable = [];
-                        for (var team in response.data) {
-                            sortable.push([team, response.data[team]]);
-                        }
-                        sortable.sort(function (a, b) {
-                            return b[1] - a[1];
-                        });
-                        this.score = sortable;
-                    });
+                    .then(response => this.setScore(response.data));
 
 
                 if (this.tournamentId != null) {
                     this.updateTable(this.gameId, this.tournamentId, this.roundId);
                 }
 
-                axios
-                    .get("/games/" + this.gameId + "/history")
-                    .then(response => {
-                        this.gameHistory = response.data;
-                        if (!this.gameHistory[this.tournamentId]) {
-                            this.tournamentId = null;
-                            this.roundId = null;
-                        }
-                    });
+                this.loadLog();
             }
         },
 
@@ -203,7 +276,12 @@ Vue.createApp({
         },
 
         cancelAutoUpdate() {
-            clearInterval(this.timer);
+            if (this.events) {
+                this.events.close();
+                this.events = null;
+            }
+            clearTimeout(this.scoreHistoryTimer);
+            this.scoreHistoryTimer = null;
         },
         toggleDarkMode() {
             this.isDarkMode = !this.isDarkMode;
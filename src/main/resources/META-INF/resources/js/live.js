@@ -22,8 +22,11 @@ Vue.createApp({
             tournamentId: null,
             roundId: null,
             table: {players: [], communityCards: []},
+            equity: {},             //Equity of the players on the latest street, by name
             gameHistory: null,      //Object for whole history
             displayedHistory: null, //Object for currently displayed history
+            lastSequence: 0,        //Sequence of the latest log entry in the history
+            pendingEntries: null,   //Log entries pushed while the missing ones are loaded
             isDarkMode: false
         }
     },
@@ -36,8 +39,13 @@ Vue.createApp({
             this.applyTheme();
         }
 
-        this.update();
-        this.timer = setInterval(this.update, 1000);
+        this.connect();
+    },
+
+    watch: {
+        gameId() {
+            this.connect();
+        }
     },
 
     beforeDestroy() {
@@ -127,6 +135,80 @@ Vue.createApp({
             }
         },
 
+        connect() {
+            this.cancelAutoUpdate();
+            if (this.gameId === -1) {
+                return;
+            }
+            this.gameHistory = null;
+            this.lastSequence = 0;
+            // load the current state once, the game then pushes every change as it happens
+            this.events = new EventSource("/games/" + this.gameId + "/events");
+            this.events.onopen = () => this.update();
+            this.events.addEventListener("log", event => this.addLogEntry(JSON.parse(event.data)));
+            this.events.addEventListener("table", event => {
+                const state = JSON.parse(event.data);
+                if (state.tournamentId !== this.tournamentId || state.roundId !== this.roundId) {
+                    this.equity = {};
+                }
+                this.tournamentId = state.tournamentId;
+                this.roundId = state.roundId;
+                this.table = state.table;
+            });
+            this.events.addEventListener("score", event => this.setScore(JSON.parse(event.data)));
+        },
+
+        // loads the log entries not seen yet, the whole log on the first call
+        loadLog() {
+            this.pendingEntries = [];
+            axios
+                .get("/games/" + this.gameId + "/log", {params: {after: this.lastSequence}})
+                .then(response => {
+                    const pending = this.pendingEntries;
+                    this.pendingEntries = null;
+                    if (this.gameHistory == null) {
+                        this.gameHistory = {};
+                    }
+                    response.data.concat(pending).forEach(entry => this.addLogEntry(entry));
+                    if (!this.gameHistory[this.tournamentId]) {
+                        this.tournamentId = null;
+                        this.roundId = null;
+                    }
+                });
+        },
+
+        addLogEntry(entry) {
+            if (this.pendingEntries != null) {
+                this.pendingEntries.push(entry);
+                return;
+            }
+            if (this.gameHistory == null || entry.sequence <= this.lastSequence) {
+                return;
+            }
+            this.lastSequence = entry.sequence;
+            const tournament = this.gameHistory[entry.tournamentId] || (this.gameHistory[entry.tournamentId] = {});
+            const round = tournament[entry.roundId] || (tournament[entry.roundId] = []);
+            round.push(entry.message);
+            if (entry.event && (entry.event.type === "equityEstimated" || entry.event.type === "allInEquity")
+                && this.tournamentId === entry.tournamentId && this.roundId === entry.roundId) {
+                this.equity = entry.event.equities;
+            }
+            if (this.tournamentId === entry.tournamentId && this.roundId === entry.roundId) {
+                this.displayedHistory = round;
+            }
+        },
+
+        setScore(score) {
+            let sortable = [];
+            for (var team in score) {
+                sortable.push([team, score[team]]);
+            }
+            sortable.sort(function (a, b) {
+                return b[1] - a[1];
+            });
+            this.score = sortable;
+        },
+
         update() {
             // Simple GET request using fetch
             if (this.gameId !== -1) {
@@ -140,33 +222,14 @@ Vue.createApp({
 
                 axios
                     .get("/games/" + this.gameId + "/score")
-                    .then(response => {
-                        let sortable = [];
-                        for (var team in response.data) {
-                            sortable.push([team, response.data[team]]);
-                        }
-                        sortable.sort(function (a, b) {
-                            return b[1] - a[1];
-                        });
-                        this.score = sortable;
-                    });
+                    .then(response => this.setScore(response.data));
 
 
                 if (this.tournamentId != null) {
                     this.updateTable(this.gameId, this.tournamentId, this.roundId);
                 }
 
-                axios
-                    .get("/games/" + this.gameId + "/history")
-                    .then(response => {
-                        this.gameHistory = response.data;
-                        if (!this.gameHistory[this.tournamentId]) {
-                            this.tournamentId = null;
-                            this.roundId = null;
-                        }
-                    });
-
-                this.displayedHistory = this.gameHistory[this.tournamentId][this.roundId];
+                this.loadLog();
             }
         },
 
@@ -176,10 +239,27 @@ Vue.createApp({
                 .then(response => {
                     this.table = response.data;
                 });
+            this.equity = {};
+            if (roundId != null) {
+                axios
+                    .get("/games/" + gameId + "/tournament/" + tournamentId + "/round/" + roundId + "/equity")
+                    .then(response => {
+                        const streets = Object.values(response.data);
+                        this.equity = streets.length > 0 ? streets[streets.length - 1] : {};
+                    });
+            }
+        },
+
+        formatEquity(name) {
+            const equity = this.equity[name];
+            return equity ? (equity.share * 100).toFixed(1) + "%" : null;
         },
 
         cancelAutoUpdate() {
-            clearInterval(this.timer);
+            if (this.events) {
+                this.events.close();
+                this.events = null;
+            }
         },
         toggleDarkMode() {
             this.isDarkMode = !this.isDarkMode;
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.continuouspoker.dealer.calculation.hands.HandEvaluator;
+import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
+import org.continuouspoker.dealer.data.Rank;
+import org.continuouspoker.dealer.data.Suit;
+import org.junit.jupiter.api.Test;
+
+class GameEventTest {
+
+    private static final long NOW = GameEvent.now();
+
+    @Test
+    void shouldDescribeBettingActions() {
+        assertThat(new GameEvent.Raise(NOW, "player1", 40).describe()).isEqualTo("Player player1 raises to 40.");
+        assertThat(new GameEvent.BlindPosted(NOW, "player1", 10, true, false).describe())
+                .isEqualTo("Player player1 pays big blind of 10.");
+        assertThat(new GameEvent.BlindPosted(NOW, "player1", 3, false, true).describe())
+                .isEqualTo("Player player1 goes all in for small blind with 3.");
+        assertThat(new GameEvent.Fold(NOW, "player1").describe()).isEqualTo("Player player1 folds.");
+    }
+
+    @Test
+    void shouldDescribeCardsAndPots() {
+        final long cards = CardSet.of(List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.TWO, Suit.HEARTS)));
+        final int strength = HandEvaluator.evaluate(cards);
+
+        assertThat(new GameEvent.CardsDealt(NOW, GameEvent.Street.FLOP, cards).describe()).startsWith("Flop: ");
+        assertThat(new GameEvent.PotAwarded(NOW, "Main pot", 100, List.of("a", "b"), 50, strength).describe())
+                .startsWith("Main pot of 100 is split between a,b (50 for each)");
+    }
+
+    @Test
+    void shouldDescribeBetRoundsAndFailedRequests() {
+        assertThat(new GameEvent.BetRoundEnded(NOW, null).describe()).isEqualTo("Ending bet round.");
+        assertThat(new GameEvent.BetRoundEnded(NOW, "a").describe()).isEqualTo("Ending bet round with winner: a");
+        assertThat(new GameEvent.BetRequestFailed(NOW, "a", 2).describe()).endsWith("Strike 2");
+    }
+
+    @Test
+    void shouldKeepNanosecondTimestamps() {
+        final Instant instant = Instant.parse("2024-02-13T08:02:30.462115123Z");
+
+        assertThat(GameEvent.toInstant(GameEvent.toEpochNanos(instant))).isEqualTo(instant);
+    }
+
+    @Test
+    void shouldSerializeWithType() {
+        final JsonNode json = new ObjectMapper().valueToTree(new GameEvent.Bet(NOW, "player1", 20));
+
+        assertThat(json.get("type").asText()).isEqualTo("bet");
+        assertThat(json.get("amount").asInt()).isEqualTo(20);
+        assertThat(json.get("timestamp").asLong()).isEqualTo(NOW);
+    }
+}
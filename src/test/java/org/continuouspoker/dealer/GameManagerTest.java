@@ -20,23 +20,56 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import org.continuouspoker.dealer.api.GameEventStream;
 import org.continuouspoker.dealer.game.Game;
+import org.continuouspoker.dealer.metrics.DealerMetrics;
 import org.assertj.core.api.Assertions;
+import org.continuouspoker.dealer.persistence.GameBE;
 import org.continuouspoker.dealer.persistence.GameDAO;
+import org.continuouspoker.dealer.persistence.TournamentSnapshots;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 class GameManagerTest {
 
+    private GameDAO dao;
+    private TournamentSnapshots snapshots;
+    private SimpleMeterRegistry registry;
+    private GameManager manager;
+
+    @BeforeEach
+    void createManager() {
+        dao = Mockito.mock(GameDAO.class);
+        final AtomicLong gameIds = new AtomicLong();
+        Mockito.when(dao.createGame(Mockito.any())).thenAnswer(call -> {
+            final Game game = call.getArgument(0);
+            final GameBE gameBE = new GameBE(game.getName(), List.of());
+            gameBE.id = gameIds.incrementAndGet();
+            return gameBE;
+        });
+        snapshots = Mockito.mock(TournamentSnapshots.class);
+        registry = new SimpleMeterRegistry();
+        manager = new GameManager(dao, new GameEventStream(new ObjectMapper()), snapshots, new DealerMetrics(registry),
+                Mockito.mock(Vertx.class), new ObjectMapper());
+        manager.deckRandom = "L64X128MixRandom";
+    }
+
     @Test
     void testGameRun() {
         final Collection<Team> players = new ArrayList<>();
         players.add(new Team(0L,"team1", (table, logger) -> 0));
         players.add(new Team(1L, "team2", (table, logger) -> Integer.MAX_VALUE));
 
-        final GameDAO dao = Mockito.mock(GameDAO.class);
-
         final Game testgame = new Game(0L, "testgame", Duration.ZERO, Duration.ZERO, dao);
         players.forEach(testgame::addPlayer);
         testgame.run();
@@ -45,4 +78,173 @@ class GameManagerTest {
         assertThat(testgame.getTeams().stream().mapToLong(Team::getScore).sum()).isOne();
     }
 
+    @Test
+    void turboGameShouldIgnorePacingAndCountThroughput() {
+        final Game testgame = new Game(0L, "testgame", Duration.ofDays(1), Duration.ofDays(1), dao);
+        testgame.addPlayer(new Team(0L, "team1", (table, logger) -> 0));
+        testgame.addPlayer(new Team(1L, "team2", (table, logger) -> Integer.MAX_VALUE));
+        testgame.setTurbo(true);
+        testgame.run();
+
+        assertThat(testgame.getThroughput().getTournaments()).isOne();
+        assertThat(testgame.getThroughput().getRounds()).isPositive();
+        assertThat(testgame.getThroughput().getRoundsPerSecond()).isPositive();
+    }
+
+    @Test
+    void scheduledTurboGameShouldStartTheNextTournamentWhenOneEnded() {
+        final Game testgame = new Game(0L, "testgame", Duration.ZERO, Duration.ZERO, dao);
+        testgame.addPlayer(new Team(0L, "team1", (table, logger) -> 0));
+        testgame.addPlayer(new Team(1L, "team2", (table, logger) -> Integer.MAX_VALUE));
+        final List<Runnable> started = new ArrayList<>();
+        testgame.setExecutor(started::add);
+        final AtomicInteger continued = new AtomicInteger();
+        testgame.setScheduled(() -> continued.incrementAndGet() <= 2);
+        testgame.setTurbo(true);
+
+        testgame.run();
+        while (!started.isEmpty()) {
+            started.remove(0).run();
+        }
+
+        assertThat(testgame.getThroughput().getTournaments()).isEqualTo(3);
+    }
+
+    @Test
+    void stoppedGameShouldNotRecordTheUnfinishedTournament() {
+        final Game testgame = new Game(0L, "testgame", Duration.ZERO, Duration.ZERO, dao);
+        testgame.addPlayer(new Team(0L, "team1", (table, logger) -> {
+            testgame.stop();
+            return 0;
+        }));
+        testgame.addPlayer(new Team(1L, "team2", (table, logger) -> {
+            testgame.stop();
+            return 0;
+        }));
+
+        testgame.run();
+
+        assertThat(testgame.getTournaments()).hasSize(1);
+        assertThat(testgame.getTournaments().get(0).isCompleted()).isFalse();
+        assertThat(testgame.getThroughput().getTournaments()).isZero();
+        assertThat(testgame.getTeams().stream().mapToLong(Team::getScore).sum()).isZero();
+        Mockito.verify(dao, Mockito.never()).storeScores(testgame);
+    }
+
+    @Test
+    void gameShouldWaitForAFreeSlotOfTheRunningGames() {
+        final Game testgame = new Game(0L, "testgame", Duration.ZERO, Duration.ZERO, dao);
+        testgame.addPlayer(new Team(0L, "team1", (table, logger) -> 0));
+        testgame.addPlayer(new Team(1L, "team2", (table, logger) -> Integer.MAX_VALUE));
+        final Semaphore runningGames = new Semaphore(1);
+        testgame.setRunningGames(runningGames);
+
+        runningGames.acquireUninterruptibly();
+        testgame.run();
+        assertThat(testgame.getTournaments()).isEmpty();
+
+        runningGames.release();
+        testgame.run();
+        assertThat(testgame.getThroughput().getTournaments()).isOne();
+        assertThat(runningGames.availablePermits()).isOne();
+    }
+
+    @Test
+    void turboGameShouldNotStoreScoresAfterEveryTournament() {
+        final Game testgame = new Game(0L, "testgame", Duration.ZERO, Duration.ZERO, dao);
+        testgame.addPlayer(new Team(0L, "team1", (table, logger) -> 0));
+        testgame.addPlayer(new Team(1L, "team2", (table, logger) -> Integer.MAX_VALUE));
+
+        testgame.setTurbo(true);
+        testgame.run();
+        testgame.run();
+        Mockito.verify(dao, Mockito.never()).storeScores(testgame);
+
+        testgame.setTurbo(false);
+        testgame.run();
+        Mockito.verify(dao).storeScores(testgame);
+    }
+
+    @Test
+    void shouldFindGamesByIdAndListThemByName() {
+        final long zeta = manager.createNewGame("zeta");
+        final long alpha = manager.createNewGame("alpha");
+
+        assertThat(manager.getGame(zeta)).get().extracting(Game::getName).isEqualTo("zeta");
+        assertThat(manager.getGames()).extracting(Game::getGameId).containsExactly(alpha, zeta);
+
+        manager.delete(zeta);
+
+        assertThat(manager.getGame(zeta)).isEmpty();
+        assertThat(manager.getGames()).extracting(Game::getName).containsExactly("alpha");
+    }
+
+    @Test
+    void shouldStoreOnlyChangedTeamsAndScores() {
+        final long gameId = manager.createNewGame("game");
+        final Team team = new Team(7L, "team", (table, logger) -> 0);
+
+        manager.store();
+        Mockito.verify(dao, Mockito.never()).storeChanges(Mockito.any(), Mockito.any());
+
+        manager.getGame(gameId).orElseThrow().addPlayer(team);
+        team.addToScore(3);
+        Mockito.doThrow(new IllegalStateException("db down")).doNothing().when(dao).storeChanges(Mockito.any(),
+                Mockito.any());
+        manager.store();
+        manager.store();
+        manager.store();
+
+        Mockito.verify(dao, Mockito.times(2)).storeChanges(Map.of(gameId, List.of(7L)), Map.of(7L, 3L));
+    }
+
+    @Test
+    void shouldRemoveTheMetersOfDeletedGamesAndTeams() {
+        final Game first = manager.getGame(manager.createNewGame("first")).orElseThrow();
+        final Game second = manager.getGame(manager.createNewGame("second")).orElseThrow();
+        final Team team = new Team(7L, "team", (table, logger) -> 0);
+        first.addPlayer(team);
+        second.addPlayer(new Team(8L, "team", (table, logger) -> 0));
+        registry.counter("dealer.strikes", DealerMetrics.TEAM_TAG, "team").increment();
+
+        manager.removeTeam(first, team);
+        assertThat(registry.find("dealer.strikes").counter()).isNotNull();
+        assertThat(registry.find("dealer.rounds").tag(DealerMetrics.GAME_TAG, "2").counter()).isNotNull();
+
+        manager.delete(second.getGameId());
+        assertThat(registry.find("dealer.strikes").counter()).isNull();
+        assertThat(registry.find("dealer.rounds").tag(DealerMetrics.GAME_TAG, "2").counter()).isNull();
+        assertThat(registry.find("dealer.rounds").tag(DealerMetrics.GAME_TAG, "1").counter()).isNotNull();
+    }
+
+    @Test
+    void shouldCloseTheProvidersOfRemovedTeams() {
+        final Game first = manager.getGame(manager.createNewGame("first")).orElseThrow();
+        final Game second = manager.getGame(manager.createNewGame("second")).orElseThrow();
+        final ActionProvider removed = Mockito.mock(ActionProvider.class);
+        final ActionProvider deleted = Mockito.mock(ActionProvider.class);
+        final Team team = new Team(7L, "team", removed);
+        first.addPlayer(team);
+        second.addPlayer(new Team(8L, "other", deleted));
+
+        manager.removeTeam(first, team);
+        Mockito.verify(removed).close();
+        Mockito.verify(deleted, Mockito.never()).close();
+
+        manager.delete(second.getGameId());
+        Mockito.verify(deleted).close();
+    }
+
+    @Test
+    void deletedGameShouldStopAndDiscardItsSnapshot() {
+        final Game game = manager.getGame(manager.createNewGame("game")).orElseThrow();
+        game.addPlayer(new Team(7L, "team1", (table, logger) -> 0));
+        game.addPlayer(new Team(8L, "team2", (table, logger) -> 0));
+
+        manager.delete(game.getGameId());
+        game.run();
+
+        Mockito.verify(snapshots).discard(game.getGameId());
+        assertThat(game.getTournaments()).isEmpty();
+    }
 }
@@ -26,8 +26,12 @@ import org.continuouspoker.dealer.data.Rank;
 import org.continuouspoker.dealer.data.Status;
 import org.continuouspoker.dealer.data.Suit;
 import org.continuouspoker.dealer.data.Table;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.core.Vertx;
+import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.junit.jupiter.api.Test;
 
@@ -35,19 +39,41 @@ import org.junit.jupiter.api.Test;
 @QuarkusTestResource(WireMockExtensions.class)
 class RemotePlayerQuarkusTest {
 
-    @ConfigProperty(name = "quarkus.rest-client.\"org.continuouspoker.dealer.RemotePlayerClient\".url")
+    @ConfigProperty(name = "wiremock.url")
     String wiremockUrl;
 
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    ObjectMapper mapper;
+
     @Test
     void requestBodyShouldMatchExpectedFormat() {
-        final RemotePlayer remotePlayer = new RemotePlayer(wiremockUrl);
+        final RemotePlayer remotePlayer = new RemotePlayer(wiremockUrl, vertx, mapper, new SimpleMeterRegistry());
 
-        final int bet = remotePlayer.requestBet(createTable(), msg -> {});
+        final int bet = remotePlayer.requestBet(createTable().snapshotForActivePlayer(), msg -> {});
 
         assertThat(bet).isEqualTo(5);
 
     }
 
+    @Test
+    void consecutiveRequestsShouldReuseTheClient() {
+        final RemotePlayer remotePlayer = new RemotePlayer(wiremockUrl, vertx, mapper, new SimpleMeterRegistry());
+
+        assertThat(remotePlayer.requestBet(createTable().snapshotForActivePlayer(), msg -> {})).isEqualTo(5);
+        assertThat(remotePlayer.requestBet(createTable().snapshotForActivePlayer(), msg -> {})).isEqualTo(5);
+    }
+
+    @Test
+    void unknownPropertiesOfTheReplyShouldBeIgnored() {
+        final RemotePlayer remotePlayer = new RemotePlayer(wiremockUrl + WireMockExtensions.EXTRA_FIELD_PATH, vertx,
+                mapper, new SimpleMeterRegistry());
+
+        assertThat(remotePlayer.requestBet(createTable().snapshotForActivePlayer(), msg -> {})).isEqualTo(5);
+    }
+
     private static Table createTable() {
         final Player bot1 = new Player("Bot1", Status.ACTIVE, 990, 10, (table, logger) -> 1);
         final Player bot2 = new Player("Bot2", Status.ACTIVE, 980, 20, (table, logger) -> 1);
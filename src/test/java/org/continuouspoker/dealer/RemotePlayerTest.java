@@ -15,15 +15,110 @@
  */
 package org.continuouspoker.dealer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import org.continuouspoker.dealer.data.Player;
+import org.continuouspoker.dealer.data.Pot;
+import org.continuouspoker.dealer.data.Status;
+import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.data.TableSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class RemotePlayerTest {
 
+    private Vertx vertx;
+
+    @BeforeEach
+    void startVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void stopVertx() {
+        vertx.close();
+    }
+
     @Test
     void shouldThrowExceptionWithIllegalUrl() {
-        assertThatThrownBy(() -> new RemotePlayer("99\"4343**ä#")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RemotePlayer("99\"4343**ä#", vertx, new ObjectMapper(), new SimpleMeterRegistry())).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+
+    @Test
+    void closedPlayerShouldNotBeAskedAnymore() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final RemotePlayer remotePlayer = new RemotePlayer("localhost:1", vertx, new ObjectMapper(), registry);
+        final List<GameEvent> events = new ArrayList<>();
+
+        remotePlayer.close();
+        final Player bot = new Player("Bot", Status.ACTIVE, 100, 0, remotePlayer);
+        final Table table = new Table(1, List.of(bot, new Player("Other", Status.ACTIVE, 100, 0, remotePlayer)), 5);
+        table.setPot(new Pot(events::add));
+        table.setActivePlayer(bot);
+
+        assertThat(remotePlayer.requestBet(table.snapshotForActivePlayer(), events::add)).isZero();
+        assertThat(events).isEmpty();
+        assertThat(registry.find("dealer.strikes").counter()).isNull();
+    }
+
+    @Test
+    void betShouldBeRequestedWithoutBlocking() throws Exception {
+        final WireMockServer server = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        server.start();
+        try {
+            server.stubFor(post(urlEqualTo("/")).willReturn(aResponse().withHeader("Content-Type", "application/json")
+                                                                       .withFixedDelay(200)
+                                                                       .withBody("{ \"bet\": 5 }")));
+            final RemotePlayer remotePlayer = new RemotePlayer(server.baseUrl(), vertx, new ObjectMapper(), new SimpleMeterRegistry());
+
+            final CompletableFuture<Integer> bet = remotePlayer.requestBetAsync(createTable(remotePlayer), msg -> {})
+                                                               .toCompletableFuture();
+
+            assertThat(bet).isNotDone();
+            assertThat(bet.get(5, TimeUnit.SECONDS)).isEqualTo(5);
+            remotePlayer.close();
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void failedRequestShouldCountAsStrike() throws Exception {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final RemotePlayer remotePlayer = new RemotePlayer("localhost:1", vertx, new ObjectMapper(), registry);
+        final List<GameEvent> events = new ArrayList<>();
+
+        final int bet = remotePlayer.requestBetAsync(createTable(remotePlayer), events::add)
+                                    .toCompletableFuture()
+                                    .get(5, TimeUnit.SECONDS);
+
+        assertThat(bet).isZero();
+        assertThat(events).hasOnlyElementsOfType(GameEvent.BetRequestFailed.class).hasSize(1);
+        assertThat(registry.find("dealer.strikes").counter().count()).isEqualTo(1.0);
+    }
+
+    private static TableSnapshot createTable(final RemotePlayer remotePlayer) {
+        final Player bot = new Player("Bot", Status.ACTIVE, 100, 0, remotePlayer);
+        final Table table = new Table(1, List.of(bot, new Player("Other", Status.ACTIVE, 100, 0, remotePlayer)), 5);
+        table.setPot(new Pot(msg -> {}));
+        table.setActivePlayer(bot);
+        return table.snapshotForActivePlayer();
     }
 
-}
\ No newline at end of file
+}
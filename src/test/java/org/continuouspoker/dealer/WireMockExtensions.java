@@ -32,6 +32,8 @@ import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
 
 public class WireMockExtensions implements QuarkusTestResourceLifecycleManager {
+    public static final String EXTRA_FIELD_PATH = "/extra-field/";
+
     private WireMockServer wireMockServer;
 
     @Override
@@ -43,9 +45,11 @@ public class WireMockExtensions implements QuarkusTestResourceLifecycleManager {
                                                     .willReturn(
                                                             aResponse().withHeader("Content-Type", "application/json")
                                                                        .withBody("{ \"bet\": 5 }")));
+        wireMockServer.stubFor(post(urlEqualTo(EXTRA_FIELD_PATH)).willReturn(
+                aResponse().withHeader("Content-Type", "application/json")
+                           .withBody("{ \"bet\": 5, \"comment\": \"all in next time\" }")));
 
-        return Collections.singletonMap("quarkus.rest-client.\"org.continuouspoker.dealer.RemotePlayerClient\".url",
-                wireMockServer.baseUrl());
+        return Collections.singletonMap("wiremock.url", wireMockServer.baseUrl());
     }
 
     private String readString() {
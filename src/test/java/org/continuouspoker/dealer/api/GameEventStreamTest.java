@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.continuouspoker.dealer.GameEvent;
+import org.continuouspoker.dealer.LogEntry;
+import org.continuouspoker.dealer.data.TableSnapshot;
+import org.continuouspoker.dealer.game.GameListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameEventStreamTest {
+
+    private GameEventStream testee;
+    private Sse sse;
+    private OutboundSseEvent.Builder builder;
+    private SseEventSink sink;
+
+    @BeforeEach
+    void setUp() {
+        testee = new GameEventStream(new ObjectMapper().findAndRegisterModules(), Runnable::run);
+        builder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+        when(builder.build()).thenReturn(mock(OutboundSseEvent.class));
+        sse = mock(Sse.class);
+        when(sse.newEventBuilder()).thenReturn(builder);
+        sink = mock(SseEventSink.class);
+        when(sink.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void shouldPushEventsOfTheWatchedGame() {
+        testee.subscribe(1L, sink, sse);
+
+        final GameListener listener = testee.forGame(1L);
+        final LogEntry entry = new LogEntry(new GameEvent.RoundStarted(GameEvent.now(), 3L), 1L, 2L, 3L);
+        listener.logged(entry);
+        listener.scoreChanged(Map.of("team", 1L));
+
+        verify(builder).name(GameEventStream.LOG_EVENT);
+        verify(builder).name(GameEventStream.SCORE_EVENT);
+        verify(builder).data(String.class, "{\"team\":1}");
+    }
+
+    @Test
+    void shouldSerializeEachEventOnceForAllSubscribers() throws Exception {
+        final ObjectMapper mapper = spy(new ObjectMapper());
+        final List<Runnable> sent = new ArrayList<>();
+        testee = new GameEventStream(mapper, sent::add);
+        testee.subscribe(1L, sink, sse);
+        final SseEventSink other = mock(SseEventSink.class);
+        when(other.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+        testee.subscribe(1L, other, sse);
+
+        testee.forGame(1L).scoreChanged(Map.of("team", 1L));
+        verify(sink, never()).send(any());
+
+        sent.forEach(Runnable::run);
+        verify(mapper, times(1)).writeValueAsString(any());
+        verify(builder, times(2)).data(String.class, "{\"team\":1}");
+    }
+
+    @Test
+    void shouldKeepOnlyTheLatestWaitingTable() throws Exception {
+        final ObjectMapper mapper = spy(new ObjectMapper());
+        doReturn("{}").when(mapper).writeValueAsString(any());
+        final List<Runnable> sent = new ArrayList<>();
+        testee = new GameEventStream(mapper, sent::add);
+        testee.subscribe(1L, sink, sse);
+
+        final GameListener listener = testee.forGame(1L);
+        listener.tableChanged(0L, 1L, () -> mock(TableSnapshot.class));
+        listener.tableChanged(0L, 1L, () -> mock(TableSnapshot.class));
+        listener.tableChanged(0L, 1L, () -> mock(TableSnapshot.class));
+        assertThat(sent).hasSize(1);
+
+        sent.forEach(Runnable::run);
+        verify(mapper, times(1)).writeValueAsString(any());
+        verify(sink, times(1)).send(any());
+    }
+
+    @Test
+    void shouldNotQueueTablesForSlowSubscribers() throws Exception {
+        final ObjectMapper mapper = spy(new ObjectMapper());
+        doReturn("{}").when(mapper).writeValueAsString(any());
+        testee = new GameEventStream(mapper, Runnable::run);
+        final SseEventSink slow = mock(SseEventSink.class);
+        final CompletableFuture<?> written = new CompletableFuture<>();
+        when(slow.send(any())).then(invocation -> written);
+        testee.subscribe(1L, slow, sse);
+
+        final GameListener listener = testee.forGame(1L);
+        listener.tableChanged(0L, 1L, () -> mock(TableSnapshot.class));
+        listener.tableChanged(0L, 1L, () -> mock(TableSnapshot.class));
+        listener.tableChanged(0L, 1L, () -> mock(TableSnapshot.class));
+        listener.scoreChanged(Map.of());
+
+        verify(builder, times(1)).name(GameEventStream.TABLE_EVENT);
+        verify(builder).name(GameEventStream.SCORE_EVENT);
+        assertThat(testee.getSubscriberCount(1L)).isOne();
+    }
+
+    @Test
+    void shouldNotCreateSnapshotsWithoutSubscribers() {
+        testee.subscribe(2L, sink, sse);
+
+        @SuppressWarnings("unchecked")
+        final Supplier<TableSnapshot> table = mock(Supplier.class);
+        testee.forGame(1L).tableChanged(0L, 1L, table);
+
+        verify(table, never()).get();
+        verify(sink, never()).send(any());
+    }
+
+    @Test
+    void shouldDropClosedAndFailingSubscribers() {
+        final SseEventSink closed = mock(SseEventSink.class);
+        when(closed.isClosed()).thenReturn(true);
+        final SseEventSink failing = mock(SseEventSink.class);
+        when(failing.send(any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("gone")));
+        testee.subscribe(1L, sink, sse);
+        testee.subscribe(1L, closed, sse);
+        testee.subscribe(1L, failing, sse);
+
+        testee.forGame(1L).scoreChanged(Map.of());
+
+        assertThat(testee.getSubscriberCount(1L)).isOne();
+        verify(closed, never()).send(any());
+    }
+
+    @Test
+    void shouldCloseSubscribersOfDeletedGame() {
+        testee.subscribe(1L, sink, sse);
+
+        testee.close(1L);
+
+        verify(sink).close();
+        assertThat(testee.getSubscriberCount(1L)).isZero();
+    }
+}
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.when;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +35,7 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import jakarta.ws.rs.core.MediaType;
+import org.continuouspoker.dealer.GameEvent;
 import org.continuouspoker.dealer.GameManager;
 import org.continuouspoker.dealer.LogEntry;
 import org.continuouspoker.dealer.data.Card;
@@ -43,8 +45,10 @@ import org.continuouspoker.dealer.data.Rank;
 import org.continuouspoker.dealer.data.Status;
 import org.continuouspoker.dealer.data.Suit;
 import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.data.TableSnapshot;
 import org.continuouspoker.dealer.exceptionhandling.exceptions.ObjectNotFoundException;
 import org.continuouspoker.dealer.game.Game;
+import org.continuouspoker.dealer.game.Throughput;
 import org.continuouspoker.dealer.persistence.GameDAO;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,7 +71,8 @@ class ManagementControllerTest {
     void setup() {
         managementService = mock(ManagementService.class);
         gameManager = mock(GameManager.class);
-        logEntry = new LogEntry(ZonedDateTime.parse("2024-02-13T09:02:30.462115+01:00"), 1L, 0L, 5L, "");
+        logEntry = new LogEntry(new GameEvent.RoundStarted(GameEvent.toEpochNanos(
+                ZonedDateTime.parse("2024-02-13T09:02:30.462115+01:00").toInstant()), 5L), 1L, 0L, 5L);
         gameDetails = Map.of(
             "gameId", "101",
             "name", "test");
@@ -450,7 +455,7 @@ class ManagementControllerTest {
 
     @Test
     void getStateOfTournament() throws ObjectNotFoundException {
-        Table table = createTableInstance();
+        TableSnapshot table = createTableInstance().snapshot();
         Mockito.when(managementService.getStateOfTournament(1L, 0L)).thenReturn(table);
 
         QuarkusMock.installMockForType(managementService, ManagementService.class);
@@ -466,7 +471,7 @@ class ManagementControllerTest {
 
     @Test
     void getStateOfRound() throws ObjectNotFoundException {
-        Table table = createTableInstance();
+        TableSnapshot table = createTableInstance().snapshot();
         Mockito.when(managementService.getStateOfRound(1L, 0L, 5L)).thenReturn(table);
 
         QuarkusMock.installMockForType(managementService, ManagementService.class);
@@ -503,7 +508,7 @@ class ManagementControllerTest {
             .contentType(MediaType.APPLICATION_JSON)
             .body("$", isA(List.class))
             .body("$", hasSize(1))
-            .body("[0].timestamp", equalTo("2024-02-13T09:02:30.462115+01:00"))
+            .body("[0].timestamp", equalTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(logEntry.getTimestamp())))
             .body("[0].gameId", equalTo(1))
             .body("[0].tournamentId", equalTo(0))
             .body("[0].roundId", equalTo(5));
@@ -528,7 +533,7 @@ class ManagementControllerTest {
             .contentType(MediaType.APPLICATION_JSON)
             .body("$", isA(List.class))
             .body("$", hasSize(1))
-            .body("[0].timestamp", equalTo(logEntry.getTimestamp().toString()))
+            .body("[0].timestamp", equalTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(logEntry.getTimestamp())))
             .body("[0].gameId", equalTo(1))
             .body("[0].tournamentId", equalTo(0))
             .body("[0].roundId", equalTo(5));
@@ -547,6 +552,58 @@ class ManagementControllerTest {
             .formParam("name", "test");
     }
 
+    @Test
+    void whenSetTurbo_SuccessfulRequest() throws ObjectNotFoundException {
+        long gameId = Long.parseLong(gameDetails.get("gameId"));
+        Mockito.doNothing().when(managementService).setTurbo(gameId, true);
+
+        QuarkusMock.installMockForType(managementService, ManagementService.class);
+
+        authenticateAsAdmin()
+            .pathParam("gameId", gameId)
+            .queryParam("enabled", true)
+            .when()
+            .put("/games/manage/{gameId}/turbo")
+            .then()
+            .statusCode(204);
+
+        Mockito.verify(managementService).setTurbo(gameId, true);
+    }
+
+    @Test
+    void whenSetTurbo_FailedAuthentication() {
+        long gameId = Long.parseLong(gameDetails.get("gameId"));
+
+        QuarkusMock.installMockForType(managementService, ManagementService.class);
+
+        given()
+            .pathParam("gameId", gameId)
+            .queryParam("enabled", true)
+            .when()
+            .put("/games/manage/{gameId}/turbo")
+            .then()
+            .statusCode(401);
+    }
+
+    @Test
+    void whenGetThroughput_SuccessfulRequest() throws ObjectNotFoundException {
+        long gameId = Long.parseLong(gameDetails.get("gameId"));
+        Throughput throughput = new Throughput();
+        throughput.recordTournament(42);
+        when(managementService.getThroughput(gameId)).thenReturn(throughput);
+
+        QuarkusMock.installMockForType(managementService, ManagementService.class);
+
+        given()
+            .pathParam("gameId", gameId)
+            .when()
+            .get("/games/{gameId}/throughput")
+            .then()
+            .statusCode(200)
+            .body("tournaments", equalTo(1))
+            .body("rounds", equalTo(42));
+    }
+
     private void validateGameId(Response response, Long gameId) {
         response
             .then()
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.continuouspoker.dealer.GameManager;
+import org.continuouspoker.dealer.persistence.GameDAO;
+import org.continuouspoker.dealer.persistence.TeamScoreRow;
+import org.junit.jupiter.api.Test;
+
+class ManagementServiceTest {
+
+    @Test
+    void shouldGroupScoreHistoryByTeam() {
+        final Instant later = Instant.parse("2024-02-13T09:10:00Z");
+        final Instant earlier = Instant.parse("2024-02-13T09:00:00Z");
+        final GameDAO dao = mock(GameDAO.class);
+        when(dao.loadScoreHistory(1L)).thenReturn(List.of(
+                new TeamScoreRow(2L, later, "Yellow Jackets", 3),
+                new TeamScoreRow(2L, later, "Brave Bulls", 1),
+                new TeamScoreRow(1L, earlier, "Yellow Jackets", 2)));
+        final ManagementService service = new ManagementService(mock(GameManager.class), dao,
+                new GameEventStream(new ObjectMapper()));
+
+        final Map<String, List<ScoreHistoryEntry>> history = service.getScoreHistory(1L);
+
+        assertThat(history).containsOnlyKeys("Brave Bulls", "Yellow Jackets");
+        assertThat(history.get("Yellow Jackets")).containsExactly(new ScoreHistoryEntry(later, 3),
+                new ScoreHistoryEntry(earlier, 2));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
+import org.continuouspoker.dealer.data.Rank;
+import org.continuouspoker.dealer.data.Suit;
+import org.junit.jupiter.api.Test;
+
+class EquityCalculatorTest {
+
+    private static final long ACES = CardSet.of(List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE,
+            Suit.HEARTS)));
+    private static final long KINGS = CardSet.of(List.of(new Card(Rank.KING, Suit.CLUBS), new Card(Rank.KING,
+            Suit.DIAMONDS)));
+
+    @Test
+    void shouldEstimatePreflopEquity() {
+        final EquityCalculator calculator = new EquityCalculator(400_000, 0.002, 4, 42L);
+
+        final EquityCalculator.Result result = calculator.calculate(new long[] { ACES, KINGS }, CardSet.EMPTY);
+
+        // these aces against these kings win 81.26% of the boards
+        assertThat(result.equities().get(0).share()).isCloseTo(0.8126, within(0.01));
+        assertThat(result.equities().get(0).share() + result.equities().get(1).share()).isCloseTo(1.0,
+                within(1e-9));
+    }
+
+    @Test
+    void shouldStopOnceThePrecisionIsReached() {
+        final EquityCalculator calculator = new EquityCalculator(1_000_000, 0.05, 2, 42L);
+
+        final EquityCalculator.Result result = calculator.calculate(new long[] { ACES, KINGS }, CardSet.EMPTY);
+
+        assertThat(result.samples()).isLessThan(1_000_000);
+    }
+
+    @Test
+    void shouldNotDrawMoreThanTheSampleLimit() {
+        final EquityCalculator calculator = new EquityCalculator(10_000, 0, 4, 42L);
+
+        final EquityCalculator.Result result = calculator.calculate(new long[] { ACES, KINGS }, CardSet.EMPTY);
+
+        assertThat(result.samples()).isEqualTo(10_000);
+    }
+
+    @Test
+    void shouldDrawOtherBoardsForEveryCalculation() {
+        final EquityCalculator calculator = new EquityCalculator(10_000, 0, 2, 42L);
+
+        final EquityCalculator.Result first = calculator.calculate(new long[] { ACES, KINGS }, CardSet.EMPTY);
+        final EquityCalculator.Result second = calculator.calculate(new long[] { ACES, KINGS }, CardSet.EMPTY);
+
+        assertThat(second.equities()).isNotEqualTo(first.equities());
+    }
+
+    @Test
+    void shouldEnumerateEveryBoardForTheExactEquity() {
+        final EquityCalculator.Result result = new EquityCalculator(1_000, 0.01).calculateExact(
+                new long[] { ACES, KINGS }, CardSet.EMPTY);
+
+        assertThat(result.exact()).isTrue();
+        assertThat(result.samples()).isEqualTo(EquityCalculator.countBoards(48, 5));
+        // kings of the other two suits make more flushes than against aces of the same suits
+        assertThat(result.equities().get(0).share()).isCloseTo(0.8126, within(0.0001));
+    }
+
+    @Test
+    void shouldEnumerateWhenThereAreFewerBoardsThanSamples() {
+        final long flop = CardSet.of(List.of(new Card(Rank.TWO, Suit.CLUBS), new Card(Rank.SEVEN, Suit.HEARTS),
+                new Card(Rank.NINE, Suit.SPADES)));
+
+        final EquityCalculator.Result result = new EquityCalculator(10_000, 0.01).calculate(
+                new long[] { ACES, KINGS }, flop);
+
+        assertThat(result.exact()).isTrue();
+        assertThat(result.samples()).isEqualTo(990);
+    }
+
+    @Test
+    void shouldCountBoards() {
+        assertThat(EquityCalculator.countBoards(48, 5)).isEqualTo(1_712_304);
+        assertThat(EquityCalculator.countBoards(44, 1)).isEqualTo(44);
+        assertThat(EquityCalculator.countBoards(44, 0)).isOne();
+    }
+
+    @Test
+    void shouldEvaluateACompleteBoardOnce() {
+        final long board = CardSet.of(List.of(new Card(Rank.TWO, Suit.CLUBS), new Card(Rank.SEVEN, Suit.HEARTS),
+                new Card(Rank.NINE, Suit.SPADES), new Card(Rank.JACK, Suit.DIAMONDS), new Card(Rank.KING,
+                        Suit.HEARTS)));
+
+        final EquityCalculator.Result result = new EquityCalculator(1_000, 0.01).calculate(
+                new long[] { ACES, KINGS }, board);
+
+        assertThat(result.samples()).isOne();
+        assertThat(result.equities()).containsExactly(new Equity(0, 0, 0), new Equity(1, 0, 1));
+    }
+
+    @Test
+    void shouldCountSplitPots() {
+        final long aceKing = CardSet.of(List.of(new Card(Rank.ACE, Suit.CLUBS), new Card(Rank.KING, Suit.CLUBS)));
+        final long otherAceKing = CardSet.of(List.of(new Card(Rank.ACE, Suit.DIAMONDS), new Card(Rank.KING,
+                Suit.DIAMONDS)));
+
+        final EquityCalculator.Result result = new EquityCalculator(50_000, 0.01, 2, 7L).calculate(
+                new long[] { aceKing, otherAceKing }, CardSet.EMPTY);
+
+        assertThat(result.equities().get(0).tie()).isGreaterThan(0.8);
+        assertThat(result.equities().get(0).share()).isCloseTo(0.5, within(0.01));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
+import org.continuouspoker.dealer.data.Rank;
+import org.continuouspoker.dealer.data.Suit;
+import org.junit.jupiter.api.Test;
+
+class PreflopEquityTableTest {
+
+    private static final long ACES = CardSet.of(List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE,
+            Suit.HEARTS)));
+    private static final long KINGS = CardSet.of(List.of(new Card(Rank.KING, Suit.CLUBS), new Card(Rank.KING,
+            Suit.DIAMONDS)));
+
+    @Test
+    void shouldNameEveryStartingHand() {
+        for (int hand = 0; hand < PreflopEquityTable.NUMBER_OF_HANDS; hand++) {
+            assertThat(PreflopEquityTable.indexOf(PreflopEquityTable.nameOf(hand))).isEqualTo(hand);
+        }
+        assertThat(PreflopEquityTable.nameOf(PreflopEquityTable.indexOf(ACES))).isEqualTo("AA");
+        assertThat(PreflopEquityTable.indexOf("KQs")).isNotEqualTo(PreflopEquityTable.indexOf("KQo"));
+    }
+
+    @Test
+    void shouldLookUpTheShippedTable() {
+        final PreflopEquityTable table = PreflopEquityTable.getDefault().orElseThrow();
+
+        assertThat(table.headsUp(ACES, KINGS).share()).isCloseTo(0.82, within(0.01));
+        assertThat(table.headsUp(ACES, KINGS).share() + table.headsUp(KINGS, ACES).share()).isCloseTo(1.0,
+                within(0.001));
+        assertThat(table.headsUp(ACES, ACES).share()).isEqualTo(0.5, within(0.001));
+        // aces win about 85% against one random hand and lose more often the more opponents there are
+        assertThat(table.againstRandom(ACES, 1).share()).isCloseTo(0.85, within(0.01));
+        assertThat(table.againstRandom(ACES, PreflopEquityTable.MAX_OPPONENTS).share())
+                .isLessThan(table.againstRandom(ACES, 2).share());
+    }
+
+    @Test
+    void shouldRejectInvalidLookups() {
+        final PreflopEquityTable table = PreflopEquityTable.getDefault().orElseThrow();
+
+        assertThatThrownBy(() -> table.againstRandom(ACES, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.againstRandom(ACES, PreflopEquityTable.MAX_OPPONENTS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PreflopEquityTable.indexOf("AKx")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldGenerateAValidTable() {
+        final PreflopEquityTable table = new PreflopEquityTable(new PreflopTableGenerator(50, 42L).generate());
+
+        assertThat(table.getSamples()).isEqualTo(50);
+        assertThat(table.headsUp(ACES, KINGS).share() + table.headsUp(KINGS, ACES).share()).isCloseTo(1.0,
+                within(0.001));
+    }
+
+    @Test
+    void shippedTableShouldMatchTheGenerator() {
+        final PreflopEquityTable table = PreflopEquityTable.getDefault().orElseThrow();
+        final PreflopTableGenerator generator = new PreflopTableGenerator(table.getSamples(),
+                PreflopTableGenerator.SEED);
+
+        // the last rows sample the fewest matchups
+        for (final String hand : List.of("AKs", "AA")) {
+            final int index = PreflopEquityTable.indexOf(hand);
+            final double[][] row = generator.sampleRow(index);
+            final int headsUp = PreflopEquityTable.NUMBER_OF_HANDS - index;
+            for (int other = index; other < PreflopEquityTable.NUMBER_OF_HANDS; other++) {
+                assertEntry(table.headsUp(index, other), row[other - index]);
+            }
+            for (int opponents = 1; opponents <= PreflopEquityTable.MAX_OPPONENTS; opponents++) {
+                assertEntry(table.againstRandom(index, opponents), row[headsUp + opponents - 1]);
+            }
+        }
+    }
+
+    private static void assertEntry(final Equity equity, final double[] expected) {
+        final double precision = 1 / PreflopEquityTable.SCALE;
+        assertThat(equity.win()).isCloseTo(expected[0], within(precision));
+        assertThat(equity.tie()).isCloseTo(expected[1], within(precision));
+        assertThat(equity.share()).isCloseTo(expected[2], within(precision));
+    }
+}
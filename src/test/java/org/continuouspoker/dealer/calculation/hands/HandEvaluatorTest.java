@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.calculation.hands;
+
+import static org.continuouspoker.dealer.data.Rank.ACE;
+import static org.continuouspoker.dealer.data.Rank.FIVE;
+import static org.continuouspoker.dealer.data.Rank.FOUR;
+import static org.continuouspoker.dealer.data.Rank.JACK;
+import static org.continuouspoker.dealer.data.Rank.KING;
+import static org.continuouspoker.dealer.data.Rank.NINE;
+import static org.continuouspoker.dealer.data.Rank.QUEEN;
+import static org.continuouspoker.dealer.data.Rank.SIX;
+import static org.continuouspoker.dealer.data.Rank.THREE;
+import static org.continuouspoker.dealer.data.Rank.TWO;
+import static org.continuouspoker.dealer.data.Suit.CLUBS;
+import static org.continuouspoker.dealer.data.Suit.DIAMONDS;
+import static org.continuouspoker.dealer.data.Suit.HEARTS;
+import static org.continuouspoker.dealer.data.Suit.SPADES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.continuouspoker.dealer.data.Card;
+import org.continuouspoker.dealer.data.CardSet;
+import org.junit.jupiter.api.Test;
+
+class HandEvaluatorTest {
+
+    @Test
+    void testEvaluate_picksBestCategory() {
+        final List<Card> cards = List.of(new Card(ACE, SPADES), new Card(QUEEN, SPADES), new Card(FIVE, HEARTS),
+                new Card(ACE, CLUBS), new Card(FOUR, SPADES), new Card(FIVE, SPADES), new Card(NINE, SPADES));
+
+        final int strength = HandEvaluator.evaluate(cards);
+
+        assertEquals(HandCategory.FLUSH, HandEvaluator.getCategory(strength));
+        assertArrayEquals(new int[] { 5,
+                                      14,
+                                      12,
+                                      9,
+                                      5,
+                                      4
+        }, new Score(strength).scoreRank());
+    }
+
+    @Test
+    void testEvaluate_splitsHoleAndCommunityCards() {
+        final List<Card> holeCards = List.of(new Card(ACE, SPADES), new Card(ACE, CLUBS));
+        final List<Card> communityCards = List.of(new Card(KING, HEARTS), new Card(KING, SPADES),
+                new Card(TWO, DIAMONDS), new Card(NINE, CLUBS), new Card(THREE, HEARTS));
+
+        final int strength = HandEvaluator.evaluate(holeCards, communityCards);
+
+        assertEquals("Two Pair", new Score(strength).name());
+        assertArrayEquals(new int[] { 2,
+                                      28,
+                                      26,
+                                      9
+        }, new Score(strength).scoreRank());
+    }
+
+    @Test
+    void testEvaluate_wheelLosesAgainstSixHighStraight() {
+        final List<Card> board = List.of(new Card(TWO, CLUBS), new Card(THREE, HEARTS), new Card(FOUR, SPADES),
+                new Card(FIVE, DIAMONDS), new Card(KING, CLUBS));
+
+        final int wheel = HandEvaluator.evaluate(List.of(new Card(ACE, HEARTS), new Card(JACK, HEARTS)), board);
+        final int sixHigh = HandEvaluator.evaluate(List.of(new Card(SIX, HEARTS), new Card(TWO, HEARTS)), board);
+
+        assertEquals(HandCategory.STRAIGHT, HandEvaluator.getCategory(wheel));
+        assertTrue(sixHigh > wheel);
+    }
+
+    @Test
+    void testEvaluate_kickerDecides() {
+        final List<Card> board = List.of(new Card(ACE, CLUBS), new Card(NINE, HEARTS), new Card(FOUR, SPADES),
+                new Card(SIX, DIAMONDS), new Card(TWO, CLUBS));
+
+        final int kingKicker = HandEvaluator.evaluate(List.of(new Card(ACE, HEARTS), new Card(KING, HEARTS)), board);
+        final int queenKicker = HandEvaluator.evaluate(List.of(new Card(ACE, SPADES), new Card(QUEEN, SPADES)), board);
+
+        assertTrue(kingKicker > queenKicker);
+    }
+
+    @Test
+    void testEvaluateAll_matchesSingleEvaluation() {
+        final SplittableRandom random = new SplittableRandom(42);
+        // large enough to be evaluated in parallel
+        final int hands = 50_000;
+        final long[] holeCards = new long[hands];
+        final long[] boards = new long[hands];
+        for (int i = 0; i < hands; i++) {
+            final long board = randomCards(random, CardSet.EMPTY, 5);
+            boards[i] = board;
+            holeCards[i] = randomCards(random, board, 2);
+        }
+
+        final int[] strengths = HandEvaluator.evaluateAll(holeCards, boards);
+
+        for (int i = 0; i < hands; i++) {
+            assertEquals(HandEvaluator.evaluate(holeCards[i] | boards[i]), strengths[i]);
+        }
+    }
+
+    @Test
+    void testEvaluateAll_scoresPlayersAgainstOneBoard() {
+        final long board = CardSet.of(List.of(new Card(ACE, CLUBS), new Card(NINE, HEARTS), new Card(FOUR, SPADES),
+                new Card(SIX, DIAMONDS), new Card(TWO, CLUBS)));
+        final long kingKicker = CardSet.of(List.of(new Card(ACE, HEARTS), new Card(KING, HEARTS)));
+        final long queenKicker = CardSet.of(List.of(new Card(ACE, SPADES), new Card(QUEEN, SPADES)));
+
+        final int[] strengths = HandEvaluator.evaluateAll(new long[] { kingKicker, queenKicker }, board);
+
+        assertEquals(HandEvaluator.evaluate(kingKicker | board), strengths[0]);
+        assertTrue(strengths[0] > strengths[1]);
+    }
+
+    @Test
+    void testEvaluateAll_rejectsMissingBoards() {
+        assertThrows(IllegalArgumentException.class, () -> HandEvaluator.evaluateAll(new long[2], new long[1]));
+    }
+
+    private static long randomCards(final SplittableRandom random, final long used, final int count) {
+        long cards = CardSet.EMPTY;
+        while (CardSet.size(cards) < count) {
+            final long card = 1L << random.nextInt(CardSet.NUMBER_OF_CARDS);
+            if ((card & used) == 0) {
+                cards |= card;
+            }
+        }
+        return cards;
+    }
+}
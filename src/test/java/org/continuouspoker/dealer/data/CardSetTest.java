@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CardSetTest {
+
+    @Test
+    void shouldMapEveryCardToItsOwnIndex() {
+        long allCards = CardSet.EMPTY;
+        for (int index = 0; index < CardSet.NUMBER_OF_CARDS; index++) {
+            final Card card = CardSet.toCard(index);
+            assertThat(card.getIndex()).isEqualTo(index);
+            allCards |= CardSet.of(card);
+        }
+        assertThat(allCards).isEqualTo(CardSet.FULL_DECK);
+    }
+
+    @Test
+    void shouldConvertBetweenCardsAndSet() {
+        final List<Card> cards = List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.TWO, Suit.HEARTS),
+                new Card(Rank.TEN, Suit.DIAMONDS));
+
+        final long set = CardSet.of(cards);
+
+        assertThat(CardSet.size(set)).isEqualTo(3);
+        assertThat(CardSet.contains(set, new Card(Rank.ACE, Suit.SPADES))).isTrue();
+        assertThat(CardSet.contains(set, new Card(Rank.ACE, Suit.HEARTS))).isFalse();
+        assertThat(CardSet.toCards(set)).containsExactlyInAnyOrderElementsOf(cards);
+    }
+
+    @Test
+    void shouldCountSuitsAndRanks() {
+        final long set = CardSet.of(List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS),
+                new Card(Rank.KING, Suit.SPADES), new Card(Rank.TWO, Suit.SPADES)));
+
+        assertThat(CardSet.countOfSuit(set, Suit.SPADES)).isEqualTo(3);
+        assertThat(CardSet.countOfSuit(set, Suit.CLUBS)).isZero();
+        assertThat(CardSet.countOfRank(set, Rank.ACE)).isEqualTo(2);
+        assertThat(CardSet.ranksOfSuit(set, Suit.SPADES)).isEqualTo(0b1_1000_0000_0001);
+    }
+
+}
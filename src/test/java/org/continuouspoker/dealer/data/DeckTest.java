@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class DeckTest {
+
+    @Test
+    void shouldDealTheGivenCardsInOrder() {
+        final List<Card> cards = List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.TWO, Suit.HEARTS),
+                new Card(Rank.TEN, Suit.DIAMONDS));
+        final Deck deck = new Deck(cards);
+        final List<Card> dealt = new ArrayList<>();
+
+        deck.burnCard();
+        deck.dealCards(dealt::add, 2);
+
+        assertThat(dealt).containsExactly(cards.get(1), cards.get(2));
+        assertThat(deck.getRemainingCards()).isEqualTo(CardSet.EMPTY);
+        assertThatThrownBy(deck::burnCard).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldDealEveryCardOnceAfterEachShuffle() {
+        final Deck deck = new Deck(new SplittableRandom(42L));
+
+        for (int round = 0; round < 3; round++) {
+            final List<Card> dealt = new ArrayList<>();
+            deck.dealCards(dealt::add, CardSet.NUMBER_OF_CARDS);
+
+            assertThat(CardSet.of(dealt)).isEqualTo(CardSet.FULL_DECK);
+            deck.shuffle();
+            assertThat(deck.getRemainingCards()).isEqualTo(CardSet.FULL_DECK);
+        }
+    }
+
+    @Test
+    void shouldShuffleReproduciblyWithASeededGenerator() {
+        final List<Card> first = new ArrayList<>();
+        final List<Card> second = new ArrayList<>();
+
+        new Deck(new SplittableRandom(7L)).dealCards(first::add, CardSet.NUMBER_OF_CARDS);
+        new Deck(new SplittableRandom(7L)).dealCards(second::add, CardSet.NUMBER_OF_CARDS);
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(CardSet.toCards(CardSet.FULL_DECK));
+    }
+}
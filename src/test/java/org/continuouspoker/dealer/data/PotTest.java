@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import org.continuouspoker.dealer.calculation.ScoreComparator;
+import org.continuouspoker.dealer.calculation.hands.HandEvaluator;
 import org.continuouspoker.dealer.calculation.hands.Score;
 import org.junit.jupiter.api.Test;
 
@@ -125,15 +126,22 @@ class PotTest {
     }
 
     private Score pair() {
-        return new Score("pair", new int[] { 1 });
+        return score(new Card(Rank.TWO, Suit.CLUBS), new Card(Rank.TWO, Suit.HEARTS), new Card(Rank.FIVE, Suit.SPADES),
+                new Card(Rank.NINE, Suit.DIAMONDS), new Card(Rank.JACK, Suit.CLUBS));
     }
 
     private Score flush() {
-        return new Score("flush", new int[] { 2 });
+        return score(new Card(Rank.TWO, Suit.CLUBS), new Card(Rank.FOUR, Suit.CLUBS), new Card(Rank.FIVE, Suit.CLUBS),
+                new Card(Rank.NINE, Suit.CLUBS), new Card(Rank.JACK, Suit.CLUBS));
     }
 
     private Score straightFlush() {
-        return new Score("straight flush", new int[] { 3 });
+        return score(new Card(Rank.FIVE, Suit.CLUBS), new Card(Rank.SIX, Suit.CLUBS), new Card(Rank.SEVEN, Suit.CLUBS),
+                new Card(Rank.EIGHT, Suit.CLUBS), new Card(Rank.NINE, Suit.CLUBS));
+    }
+
+    private Score score(final Card... cards) {
+        return new Score(HandEvaluator.evaluate(List.of(cards)));
     }
 
     private Player createPlayer(final String name, final int stack) {
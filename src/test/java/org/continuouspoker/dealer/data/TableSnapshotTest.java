@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class TableSnapshotTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldSerializeToThePlayerRequestFormat() throws IOException {
+        final JsonNode json = mapper.valueToTree(createTable().snapshotForActivePlayer());
+
+        try (InputStream expected = getClass().getResourceAsStream("/client-request-body.json")) {
+            assertThat(json).isEqualTo(mapper.readTree(expected));
+        }
+    }
+
+    @Test
+    void shouldOnlyContainHoleCardsOfActivePlayer() {
+        final Table table = createTable();
+        table.getPlayers().get(0).takeCard(new Card(Rank.ACE, Suit.SPADES));
+
+        final TableSnapshot snapshot = table.snapshotForActivePlayer();
+
+        assertThat(snapshot.getPlayers().get(0).getCards()).isEmpty();
+        assertThat(snapshot.getPlayers().get(2).getCards()).hasSize(2);
+        assertThat(table.getPlayers().get(0).getCards()).hasSize(1);
+    }
+
+    @Test
+    void shouldNotChangeWithTheTable() {
+        final Table table = createTable();
+        final TableSnapshot snapshot = table.snapshotForActivePlayer();
+
+        table.takeCard(new Card(Rank.KING, Suit.SPADES));
+        table.getPlayers().get(2).bet(500);
+
+        assertThat(snapshot.getCommunityCards()).hasSize(3);
+        assertThat(snapshot.getPlayers().get(2).getCurrentBet()).isZero();
+    }
+
+    private static Table createTable() {
+        final Player bot1 = new Player("Bot1", Status.ACTIVE, 990, 10, (table, logger) -> 1);
+        final Player bot2 = new Player("Bot2", Status.ACTIVE, 980, 20, (table, logger) -> 1);
+        final Player bot3 = new Player("Bot3", Status.ACTIVE, 1000, 0, (table, logger) -> 1);
+        bot3.takeCard(new Card(Rank.TWO, Suit.HEARTS));
+        bot3.takeCard(new Card(Rank.JACK, Suit.CLUBS));
+        final Table table = new Table(1, List.of(bot1, bot2, bot3), 10);
+        table.setPot(new Pot(msg -> {}));
+
+        table.takeCard(new Card(Rank.TEN, Suit.HEARTS));
+        table.takeCard(new Card(Rank.FIVE, Suit.CLUBS));
+        table.takeCard(new Card(Rank.ACE, Suit.DIAMONDS));
+
+        table.setActivePlayer(bot3);
+        return table;
+    }
+}
@@ -19,12 +19,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.continuouspoker.dealer.ActionProvider;
 import org.continuouspoker.dealer.StepLogger;
 import org.continuouspoker.dealer.data.Player;
 import org.continuouspoker.dealer.data.Status;
 import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.data.TableSnapshot;
 import org.junit.jupiter.api.Test;
 
 class BetRoundTest {
@@ -115,6 +118,34 @@ class BetRoundTest {
         assertThat(winner).isEmpty();
     }
 
+    @Test
+    void afterFlop_roundContinuesOnceTheBetArrives() {
+        final CompletableFuture<Integer> pendingBet = new CompletableFuture<>();
+        final Player player1 = createPlayer("player1", new ActionProvider() {
+            @Override
+            public int requestBet(final TableSnapshot table, final StepLogger logger) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletionStage<Integer> requestBetAsync(final TableSnapshot table, final StepLogger logger) {
+                return pendingBet;
+            }
+        });
+        final Player player2 = createPlayer("player2", (table1, logger) -> table1.getMinimumBet());
+        final List<Player> players = List.of(player1, player2);
+        final Table table = new Table(GAME_ID, players, SMALL_BLIND);
+        final BetRound betRound = new BetRound(table, players, false, logger, Runnable::run);
+
+        final CompletableFuture<Optional<Player>> winner = betRound.runAsync().toCompletableFuture();
+
+        assertThat(winner).isNotDone();
+        pendingBet.complete(SMALL_BLIND * 2);
+        assertThat(winner).isCompletedWithValue(Optional.empty());
+        assertThat(player1.getCurrentBet()).isEqualTo(SMALL_BLIND * 2);
+        assertThat(player2.getCurrentBet()).isEqualTo(SMALL_BLIND * 2);
+    }
+
     private Player createPlayer(final String name, final ActionProvider actionPlayer1) {
         return new Player(name, Status.ACTIVE, START_STACK, 0, actionPlayer1);
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.continuouspoker.dealer.GameEvent;
+import org.continuouspoker.dealer.LogEntry;
+import org.junit.jupiter.api.Test;
+
+class GameLogTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    @Test
+    void shouldNumberEntriesInOrder() {
+        final GameLog log = new GameLog(CHUNK_SIZE);
+
+        final LogEntry first = log.append(entry(0, 1));
+        final LogEntry second = log.append(entry(0, 1));
+
+        assertThat(first.getSequence()).isEqualTo(1);
+        assertThat(second.getSequence()).isEqualTo(2);
+        assertThat(log.getEntries()).containsExactly(first, second);
+    }
+
+    @Test
+    void shouldReadFromCursor() {
+        final GameLog log = new GameLog(CHUNK_SIZE);
+        for (int i = 0; i < 10; i++) {
+            log.append(entry(0, i));
+        }
+
+        assertThat(log.getEntriesAfter(3, 4)).extracting(LogEntry::getSequence).containsExactly(4L, 5L, 6L, 7L);
+        assertThat(log.getEntriesAfter(8, 100)).extracting(LogEntry::getSequence).containsExactly(9L, 10L);
+        assertThat(log.getEntriesAfter(10, 100)).isEmpty();
+    }
+
+    @Test
+    void shouldFindTournaments() {
+        final GameLog log = new GameLog(CHUNK_SIZE);
+        log.append(entry(0, 1));
+        log.append(entry(0, 2));
+        log.append(entry(0, 2));
+        log.append(entry(1, 1));
+
+        assertThat(log.getEntriesOfTournament(0)).hasSize(3);
+        assertThat(log.getEntriesOfTournament(1)).extracting(LogEntry::getSequence).containsExactly(4L);
+        assertThat(log.getEntriesOfTournament(2)).isEmpty();
+    }
+
+    @Test
+    void shouldFindEntriesInPeriod() {
+        final GameLog log = new GameLog(CHUNK_SIZE);
+        final ZonedDateTime start = ZonedDateTime.now();
+        for (int i = 0; i < 10; i++) {
+            log.append(entry(i / 5, 1, start.plusSeconds(i)));
+        }
+        final long from = GameEvent.toEpochNanos(start.plusSeconds(2).toInstant());
+        final long to = GameEvent.toEpochNanos(start.plusSeconds(7).toInstant());
+
+        assertThat(log.getEntriesBetween(from, to)).extracting(LogEntry::getSequence)
+                                                   .containsExactly(4L, 5L, 6L, 7L);
+        assertThat(log.getEntriesOfTournament(1, from, to)).extracting(LogEntry::getSequence)
+                                                           .containsExactly(6L, 7L);
+        assertThat(log.getEntriesBetween(to, from)).isEmpty();
+        assertThat(log.getEntriesBetween(Long.MIN_VALUE, Long.MAX_VALUE)).hasSize(10);
+    }
+
+    @Test
+    void shouldDropOldestEntriesWhenFull() {
+        final GameLog log = new GameLog(2 * CHUNK_SIZE);
+        for (int i = 0; i < 3 * CHUNK_SIZE; i++) {
+            log.append(entry(i / CHUNK_SIZE, 1));
+        }
+
+        final List<LogEntry> entries = log.getEntries();
+        assertThat(entries).hasSize(2 * CHUNK_SIZE);
+        assertThat(entries.get(0).getSequence()).isEqualTo(CHUNK_SIZE + 1L);
+        assertThat(log.getEntriesAfter(0, 1)).extracting(LogEntry::getSequence).containsExactly(CHUNK_SIZE + 1L);
+        assertThat(log.getEntriesOfTournament(0)).isEmpty();
+        assertThat(log.getEntriesOfTournament(2)).hasSize(CHUNK_SIZE);
+    }
+
+    private static LogEntry entry(final long tournamentId, final long roundId) {
+        return entry(tournamentId, roundId, ZonedDateTime.now());
+    }
+
+    private static LogEntry entry(final long tournamentId, final long roundId, final ZonedDateTime timestamp) {
+        return new LogEntry(new GameEvent.RoundStarted(GameEvent.toEpochNanos(timestamp.toInstant()), roundId), 1L,
+                tournamentId, roundId);
+    }
+}
@@ -17,14 +17,21 @@ package org.continuouspoker.dealer.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.continuouspoker.dealer.ActionProvider;
+import org.continuouspoker.dealer.GameEvent;
+import org.continuouspoker.dealer.GameRoundLogEntry;
+import org.continuouspoker.dealer.calculation.Equity;
+import org.continuouspoker.dealer.calculation.EquityCalculator;
 import org.continuouspoker.dealer.data.Card;
 import org.continuouspoker.dealer.data.Deck;
 import org.continuouspoker.dealer.data.Player;
@@ -32,6 +39,7 @@ import org.continuouspoker.dealer.data.Rank;
 import org.continuouspoker.dealer.data.Status;
 import org.continuouspoker.dealer.data.Suit;
 import org.continuouspoker.dealer.data.Table;
+import org.continuouspoker.dealer.data.TableSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -46,8 +54,8 @@ class GameRoundTest {
 
     @BeforeEach
     public void setUp() {
-        ActionProvider actionProvider1 = mock(ActionProvider.class);
-        ActionProvider actionProvider2 = mock(ActionProvider.class);
+        ActionProvider actionProvider1 = mock(ActionProvider.class, CALLS_REAL_METHODS);
+        ActionProvider actionProvider2 = mock(ActionProvider.class, CALLS_REAL_METHODS);
 
         player1 = new Player("player1", Status.ACTIVE, 100, 0, actionProvider1);
         player2 = new Player("player2", Status.ACTIVE, 100, 0, actionProvider2);
@@ -76,6 +84,76 @@ class GameRoundTest {
 
         assertEquals(0, player1.getStack());
         assertEquals(200, player2.getStack());
+
+        final TableSnapshot history = testee.getTableState();
+        assertEquals(5, history.getCommunityCards().size());
+        assertEquals(2, history.getPlayers().get(0).getCards().size());
+        assertEquals(0, history.getPlayers().get(0).getStack());
+        assertEquals(0, player1.getCards().size());
+    }
+
+    @Test
+    void shouldEstimateTheEquityOnEveryStreet() {
+        players.add(player1);
+        players.add(player2);
+
+        final List<Card> cards = new ArrayList<>();
+        fillCards(cards, 2);
+
+        when(player1.getActionProvider().requestBet(any(), any())).thenReturn(100);
+        when(player2.getActionProvider().requestBet(any(), any())).thenReturn(100);
+
+        testee.setEquityCalculator(new EquityCalculator(10_000, 0.01));
+        testee.playWithDeck(new Deck(cards));
+
+        final Map<GameEvent.Street, Map<String, Equity>> equities = testee.getEquities();
+        assertEquals(Set.of(GameEvent.Street.values()), equities.keySet());
+        assertEquals(1.0, equities.get(GameEvent.Street.RIVER).get("player2").share());
+        assertEquals(4, testee.getHistory().filter(e -> e.event() instanceof GameEvent.EquityEstimated).count());
+    }
+
+    @Test
+    void shouldCalculateTheExactEquityOnceEveryoneIsAllIn() {
+        players.add(player1);
+        players.add(player2);
+
+        final List<Card> cards = new ArrayList<>();
+        fillCards(cards, 2);
+
+        when(player1.getActionProvider().requestBet(any(), any())).thenReturn(100);
+        when(player2.getActionProvider().requestBet(any(), any())).thenReturn(100);
+
+        testee.setEquityCalculator(new EquityCalculator(10_000, 0.01));
+        testee.playWithDeck(new Deck(cards));
+
+        final List<GameEvent.AllInEquity> allIns = testee.getHistory()
+                                                         .map(GameRoundLogEntry::event)
+                                                         .filter(GameEvent.AllInEquity.class::isInstance)
+                                                         .map(GameEvent.AllInEquity.class::cast)
+                                                         .toList();
+        assertEquals(1, allIns.size());
+        assertEquals(GameEvent.Street.PREFLOP, allIns.get(0).street());
+        // every five cards out of the 48 unseen ones
+        assertEquals(1_712_304, allIns.get(0).boards());
+        assertEquals(1.0, allIns.get(0).equities().values().stream().mapToDouble(Equity::share).sum(), 1e-9);
+    }
+
+    @Test
+    void shouldReportEveryStepToTheListener() {
+        players.add(player1);
+        players.add(player2);
+
+        final List<Card> cards = new ArrayList<>();
+        fillCards(cards, 2);
+
+        when(player1.getActionProvider().requestBet(any(), any())).thenReturn(100);
+        when(player2.getActionProvider().requestBet(any(), any())).thenReturn(100);
+
+        final List<GameRoundLogEntry> steps = new ArrayList<>();
+        testee.setStepListener(steps::add);
+        testee.playWithDeck(new Deck(cards));
+
+        assertEquals(testee.getHistory().toList(), steps);
     }
 
     @Test
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.continuouspoker.dealer.Team;
+import org.continuouspoker.dealer.data.Status;
+import org.junit.jupiter.api.Test;
+
+class TournamentTest {
+
+    private static final int RESUMED_ROUND = 7;
+
+    @Test
+    void shouldContinueAtTheRoundOfTheSnapshot() {
+        final List<Team> teams = List.of(new Team(1L, "alpha", (table, logger) -> 0),
+                new Team(2L, "beta", (table, logger) -> 0));
+        final List<TournamentState> states = new ArrayList<>();
+        final List<Long> completed = new ArrayList<>();
+        final Tournament tournament = new Tournament(3L, 4L, teams, Duration.ZERO, Duration.ZERO);
+        tournament.setListener(new GameListener() {
+            @Override
+            public void roundCompleted(final TournamentState state) {
+                states.add(state);
+            }
+
+            @Override
+            public void tournamentCompleted(final long gameId, final long tournamentId) {
+                completed.add(tournamentId);
+            }
+        });
+        tournament.setResumeFrom(new TournamentState(3L, 4L, RESUMED_ROUND, 5, 1,
+                List.of(new TournamentState.Seat("alpha", Status.ACTIVE, 190),
+                        new TournamentState.Seat("beta", Status.ACTIVE, 10))));
+
+        tournament.run();
+
+        assertThat(states).isNotEmpty();
+        assertThat(states.get(0).round()).isEqualTo(RESUMED_ROUND + 1);
+        assertThat(states.get(0).seats()).extracting(TournamentState.Seat::team).containsExactly("alpha", "beta");
+        assertThat(states.get(states.size() - 1).seats()).extracting(TournamentState.Seat::stack)
+                                                         .containsExactlyInAnyOrder(0, 200);
+        assertThat(completed).containsExactly(4L);
+    }
+
+    @Test
+    void shouldStartOverWhenTheTeamsChanged() {
+        final List<Team> teams = List.of(new Team(1L, "alpha", (table, logger) -> 0),
+                new Team(2L, "gamma", (table, logger) -> 0));
+        final List<TournamentState> states = new ArrayList<>();
+        final Tournament tournament = new Tournament(3L, 4L, teams, Duration.ZERO, Duration.ZERO);
+        tournament.setListener(new GameListener() {
+            @Override
+            public void roundCompleted(final TournamentState state) {
+                states.add(state);
+            }
+        });
+        tournament.setResumeFrom(new TournamentState(3L, 4L, RESUMED_ROUND, 5, 1,
+                List.of(new TournamentState.Seat("alpha", Status.ACTIVE, 190),
+                        new TournamentState.Seat("beta", Status.ACTIVE, 10))));
+
+        tournament.run();
+
+        assertThat(states.get(0).round()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.continuouspoker.dealer.game.GameListener;
+import org.continuouspoker.dealer.game.GameRound;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class DealerMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DealerMetrics metrics = new DealerMetrics(registry);
+
+    @Test
+    void shouldRecordRoundsAndTournamentsPerGame() {
+        final GameRound round = Mockito.mock(GameRound.class);
+        Mockito.when(round.getPaidPot()).thenReturn(120);
+        Mockito.when(round.getShowdownDuration()).thenReturn(Optional.of(Duration.ofNanos(3_000)));
+        final GameListener listener = metrics.forGame(4L);
+
+        listener.roundPlayed(4L, round);
+        listener.roundPlayed(4L, round);
+        listener.tournamentCompleted(4L, 1L);
+
+        assertThat(registry.get("dealer.rounds").tag(DealerMetrics.GAME_TAG, "4").counter().count()).isEqualTo(2);
+        assertThat(registry.get("dealer.tournaments").counter().count()).isOne();
+        assertThat(registry.get("dealer.pot.size").summary().totalAmount()).isEqualTo(240);
+        assertThat(registry.get("dealer.showdown").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRemoveOnlyTheMetersOfTheDeletedGameOrTeam() {
+        metrics.forGame(1L);
+        metrics.forGame(2L);
+        registry.counter("dealer.strikes", DealerMetrics.TEAM_TAG, "Brave Bulls");
+        registry.counter("dealer.strikes", DealerMetrics.TEAM_TAG, "Yellow Jackets");
+
+        metrics.removeGame(1L);
+        metrics.removeTeam("Brave Bulls");
+
+        assertThat(registry.find("dealer.rounds").tag(DealerMetrics.GAME_TAG, "1").meters()).isEmpty();
+        assertThat(registry.find("dealer.rounds").tag(DealerMetrics.GAME_TAG, "2").meters()).hasSize(1);
+        assertThat(registry.find("dealer.strikes").meters()).extracting(m -> m.getId().getTag(DealerMetrics.TEAM_TAG))
+                                                          .containsExactly("Yellow Jackets");
+    }
+}
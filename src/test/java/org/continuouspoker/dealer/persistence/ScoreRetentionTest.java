@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ScoreRetentionTest {
+
+    private static final Instant START = Instant.parse("2024-02-13T09:00:00Z");
+
+    @Test
+    void shouldKeepLatestRecordPerGameAndBucket() {
+        final List<ScoreStamp> stamps = List.of(
+                new ScoreStamp(1, 1, START.plusSeconds(5)),
+                new ScoreStamp(2, 1, START.plusSeconds(30)),
+                new ScoreStamp(3, 1, START.plusSeconds(59)),
+                new ScoreStamp(4, 1, START.plusSeconds(61)),
+                new ScoreStamp(5, 2, START.plusSeconds(62)),
+                new ScoreStamp(6, 2, START.plusSeconds(90)));
+
+        assertThat(ScoreRetention.selectRedundant(stamps, Duration.ofMinutes(1))).containsExactly(1L, 2L, 5L);
+        assertThat(ScoreRetention.selectRedundant(stamps, Duration.ofHours(1))).containsExactly(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    void shouldOnlyScanRecordsSinceThePreviousCutoffAndDeleteInPages() {
+        final GameDAO dao = Mockito.mock(GameDAO.class);
+        final List<ScoreStamp> stamps = LongStream.range(0, ScoreRetention.DELETE_PAGE_SIZE + 2)
+                                                  .mapToObj(i -> new ScoreStamp(i, 1, START.plusMillis(i)))
+                                                  .toList();
+        Mockito.when(dao.loadScoreStamps(Instant.EPOCH, START.plusSeconds(30))).thenReturn(stamps);
+        final ScoreRetention retention = new ScoreRetention(dao);
+        retention.fullResolution = Duration.ofHours(1);
+        retention.minuteResolution = Duration.ofDays(1);
+
+        retention.downsample(START.plus(Duration.ofHours(1)).plusSeconds(30));
+        retention.downsample(START.plus(Duration.ofHours(2)));
+
+        Mockito.verify(dao).deleteScores(stamps.subList(0, ScoreRetention.DELETE_PAGE_SIZE).stream()
+                                               .map(ScoreStamp::recordId).toList());
+        Mockito.verify(dao).deleteScores(List.of((long) ScoreRetention.DELETE_PAGE_SIZE));
+        // the second run starts at the bucket of the first cutoff
+        Mockito.verify(dao).loadScoreStamps(START, START.plus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void shouldKeepSingleRecords() {
+        assertThat(ScoreRetention.selectRedundant(List.of(), Duration.ofMinutes(1))).isEmpty();
+        assertThat(ScoreRetention.selectRedundant(List.of(new ScoreStamp(1, 1, START)), Duration.ofMinutes(1)))
+                .isEmpty();
+    }
+}
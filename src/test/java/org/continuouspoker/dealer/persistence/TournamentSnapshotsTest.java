@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.continuouspoker.dealer.data.Status;
+import org.continuouspoker.dealer.game.TournamentState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TournamentSnapshotsTest {
+
+    @TempDir
+    private Path directory;
+
+    private TournamentSnapshots snapshots;
+
+    @BeforeEach
+    void setUp() {
+        snapshots = new TournamentSnapshots(new ObjectMapper(), new SimpleMeterRegistry());
+        snapshots.directory = directory;
+    }
+
+    @Test
+    void shouldWriteOnlyTheLatestStateOfAGame() {
+        snapshots.roundCompleted(state(1L, 2L));
+        snapshots.roundCompleted(state(1L, 3L));
+        snapshots.roundCompleted(state(2L, 5L));
+
+        snapshots.flush();
+
+        assertThat(directory).isDirectoryContaining("glob:**/game-1.json")
+                             .isDirectoryNotContaining("glob:**/*.tmp");
+        final TournamentSnapshots restarted = new TournamentSnapshots(new ObjectMapper(),
+                new SimpleMeterRegistry());
+        restarted.directory = directory;
+        assertThat(restarted.load()).containsOnlyKeys(1L, 2L).containsEntry(1L, state(1L, 3L));
+    }
+
+    @Test
+    void shouldDeleteTheSnapshotOfACompletedTournament() {
+        snapshots.roundCompleted(state(1L, 2L));
+        snapshots.flush();
+
+        snapshots.tournamentCompleted(1L, 0L);
+        snapshots.flush();
+
+        assertThat(snapshots.load()).isEmpty();
+    }
+
+    @Test
+    void shouldLoadNothingWithoutDirectory() {
+        snapshots.directory = directory.resolve("missing");
+
+        assertThat(snapshots.load()).isEmpty();
+    }
+
+    private static TournamentState state(final long gameId, final long round) {
+        return new TournamentState(gameId, 0L, round, 5, 1,
+                List.of(new TournamentState.Seat("alpha", Status.ACTIVE, 120),
+                        new TournamentState.Seat("beta", Status.OUT, 0)));
+    }
+}
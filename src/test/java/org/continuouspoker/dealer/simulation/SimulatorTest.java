@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2020 - 2024 Jan Kreutzfeld
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.continuouspoker.dealer.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.continuouspoker.dealer.ActionProvider;
+import org.junit.jupiter.api.Test;
+
+class SimulatorTest {
+
+    @Test
+    void everyTournamentShouldHaveExactlyOneWinner() {
+        final Map<String, ActionProvider> bots = new LinkedHashMap<>();
+        bots.put("caller", LocalBot.CALL);
+        bots.put("raiser", LocalBot.RAISE);
+        bots.put("random", LocalBot.RANDOM);
+
+        final SimulationResult result = new Simulator(bots).run(20);
+
+        assertThat(result.tournaments()).isEqualTo(20);
+        assertThat(result.rounds()).isPositive();
+        assertThat(result.wins().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(20);
+        assertThat(result.winRate("caller") + result.winRate("raiser") + result.winRate("random")).isCloseTo(1.0,
+                within(1e-9));
+    }
+
+    @Test
+    void allInShouldBeatFolding() {
+        final Map<String, ActionProvider> bots = new LinkedHashMap<>();
+        bots.put("folder", LocalBot.FOLD);
+        bots.put("shover", LocalBot.ALL_IN);
+
+        final SimulationResult result = new Simulator(bots).run(10);
+
+        assertThat(result.winRate("shover")).isGreaterThan(result.winRate("folder"));
+    }
+}